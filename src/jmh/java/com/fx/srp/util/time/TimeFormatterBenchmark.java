@@ -0,0 +1,55 @@
+package com.fx.srp.util.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link TimeFormatter} against the {@link LegacyTimeFormatter} it replaced, in the configurations the
+ * plugin formats with: the HUD timer with superscript milliseconds and the chat messages with suffixes.
+ * <p>
+ * Run with {@code mvn -P benchmarks test-compile exec:exec}, add {@code -prof gc} to the arguments of the profile to
+ * compare allocations as well.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeFormatterBenchmark {
+
+    // Under a minute, under an hour and over an hour
+    @Param({"42170", "1234560", "4567890"})
+    private long time;
+
+    @Benchmark
+    public String legacySuperscript() {
+        return new LegacyTimeFormatter(time).withHours().withSuperscriptMs().format();
+    }
+
+    @Benchmark
+    public String currentSuperscript() {
+        return new TimeFormatter(time).withHours().withSuperscriptMs().format();
+    }
+
+    @Benchmark
+    public String legacySuffixes() {
+        return new LegacyTimeFormatter(time).withHours().withSuffixes().format();
+    }
+
+    @Benchmark
+    public String currentSuffixes() {
+        return new TimeFormatter(time).withHours().withSuffixes().format();
+    }
+}
@@ -76,7 +76,7 @@ public class SpeedRunPlus extends JavaPlugin {
      */
     @Override
     public void onDisable() {
-        gameManager.abortAllRuns();
+        gameManager.shutdown();
         logger.info("[SRP] The plugin has stopped successfully!");
     }
 
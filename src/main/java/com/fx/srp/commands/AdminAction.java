@@ -50,7 +50,11 @@ public enum AdminAction {
         int amount = ctx.get("amount");
         CommandSender sender = ctx.getSender();
         gameManager.addSeed(type, amount, sender);
-    }, EnumArgument.of(SeedCategory.SeedType.class, "type"), IntegerArgument.of("amount"));
+    }, EnumArgument.of(SeedCategory.SeedType.class, "type"), IntegerArgument.of("amount")),
+
+    STATS((gameManager, ctx) ->
+            gameManager.sendStatsMessage(ctx.getSender())
+    );
 
     private final BiConsumer<GameManager, CommandContext<CommandSender>> executor;
     private final List<CommandArgument<CommandSender, ?>> arguments;
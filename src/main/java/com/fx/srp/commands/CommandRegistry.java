@@ -10,6 +10,7 @@ import cloud.commandframework.bukkit.BukkitCommandManager;
 import cloud.commandframework.bukkit.parsers.PlayerArgument;
 import com.fx.srp.managers.GameManager;
 import com.fx.srp.model.seed.SeedCategory;
+import com.fx.srp.util.ui.TimerDisplay;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,7 @@ import org.bukkit.entity.Player;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Central registry responsible for registering all {@code /srp} commands.
@@ -122,6 +124,48 @@ public class CommandRegistry {
                         .handler(ctx -> gameManager.sendHelpMessage(ctx.getSender()))
         );
 
+        // Register timer display command
+        commandManager.command(
+                commandManager.commandBuilder(BASE_COMMAND)
+                        .literal("timer")
+                        .permission(usagePermission)
+                        .argument(EnumArgument.of(TimerDisplay.Type.class, "display"))
+                        .handler(ctx -> {
+                            if (!(ctx.getSender() instanceof Player)) {
+                                ctx.getSender().sendMessage("This command must be run by a player.");
+                                return;
+                            }
+                            gameManager.setTimerDisplay((Player) ctx.getSender(), ctx.get("display"));
+                        })
+        );
+
+        // Register leaderboard commands
+        commandManager.command(
+                commandManager.commandBuilder(BASE_COMMAND)
+                        .literal("top")
+                        .permission(usagePermission)
+                        .argument(IntegerArgument.<CommandSender>builder("page").withMin(1).asOptionalWithDefault(1))
+                        .handler(ctx -> gameManager.sendTopMessage(ctx.getSender(), ctx.get("page")))
+        );
+
+        commandManager.command(
+                commandManager.commandBuilder(BASE_COMMAND)
+                        .literal("rank")
+                        .permission(usagePermission)
+                        .argument(PlayerArgument.optional("target"))
+                        .handler(ctx -> {
+                            Optional<Player> target = ctx.getOptional("target");
+                            if (target.isEmpty() && !(ctx.getSender() instanceof Player)) {
+                                ctx.getSender().sendMessage("This command must be run by a player.");
+                                return;
+                            }
+                            gameManager.sendRankMessage(
+                                    ctx.getSender(),
+                                    target.orElseGet(() -> (Player) ctx.getSender())
+                            );
+                        })
+        );
+
         // Register admin commands
         registerAdminCommands(commandManager, gameManager);
 
@@ -200,5 +244,16 @@ public class CommandRegistry {
                         AdminAction.SEED.getExecutor().accept(gameManager, ctx)
                 )
         );
+
+        // Admin stats command
+        commandManager.command(
+                commandManager.commandBuilder(BASE_COMMAND)
+                        .literal(adminLiteral)
+                        .literal("stats")
+                        .permission(adminPermission)
+                        .handler(ctx ->
+                                AdminAction.STATS.getExecutor().accept(gameManager, ctx)
+                        )
+        );
     }
 }
@@ -2,6 +2,7 @@ package com.fx.srp.config;
 
 import com.fx.srp.SpeedRunPlus;
 import com.fx.srp.model.seed.SeedCategory;
+import com.fx.srp.util.ui.TimerDisplay;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -45,13 +46,61 @@ public final class ConfigHandler {
     @Getter private String netherPrefix;
     @Getter private String endPrefix;
 
+    // World pool settings
+    @Getter private boolean worldPoolEnabled;
+    @Getter private int worldPoolSizePerType;
+    @Getter private int worldPoolSetsPerSeed;
+    @Getter private long worldPoolRefillInterval;
+    @Getter private double worldPoolMinTps;
+
+    // World creation settings
+    @Getter private long worldCreationTickBudgetNanos;
+
+    // Lazy world settings
+    @Getter private boolean lazyWorldsEnabled;
+
+    // Run world profile settings
+    @Getter private boolean runWorldKeepSpawnInMemory;
+    @Getter private boolean runWorldAutoSave;
+    @Getter private int runWorldViewDistance;
+    @Getter private int runWorldMonsterSpawnLimit;
+    @Getter private int runWorldAnimalSpawnLimit;
+    @Getter private int runWorldWaterAnimalSpawnLimit;
+    @Getter private int runWorldAmbientSpawnLimit;
+
+    // World template settings
+    @Getter private boolean worldTemplatesEnabled;
+    @Getter private long worldTemplatesMaxBytes;
+    @Getter private int worldTemplatesRadius;
+    @Getter private boolean worldTemplatesCaptureRandomSeeds;
+
+    // World border settings
+    @Getter private boolean worldBorderEnabled;
+    @Getter private int worldBorderOverworldRadius;
+    @Getter private int worldBorderNetherRadius;
+    @Getter private int worldBorderEndRadius;
+
+    // World deletion settings
+    @Getter private long worldDeletionBytesPerSecond;
+
+    // Pre-generation settings
+    @Getter private int pregenerationRadius;
+    @Getter private int pregenerationMaxInFlight;
+    @Getter private int pregenerationSyncChunksPerTick;
+
     // Timer settings
     @Getter private int timerCountdown;
+    @Getter private TimerDisplay.Type timerDisplay;
+    @Getter private int timerSidebarRefreshTicks;
+    @Getter private int timerActionBarRefreshTicks;
+    @Getter private int timerBossBarRefreshTicks;
+    // Distinct refresh intervals of the timer displays, computed once rather than on every timer refresh
+    @Getter private int[] timerRefreshIntervals;
 
     // AFK settings
     @Getter private long afkTimeout;
-    @Getter private long afkCheckInterval;
     @Getter private double afkMinDistance;
+    @Getter private int afkMaxChecksPerTick;
 
     // Podium settings
     @Getter private int leaderboardMaxEntries;
@@ -63,6 +112,7 @@ public final class ConfigHandler {
     @Getter private int maxPlayers;
     @Getter private long maxRunTime;
     @Getter private long maxRequestTime;
+    @Getter private long maxCoopWaitTime;
     @Getter private boolean assistedTriangulation;
     @Getter private String assistedTriangulationStrategy;
     @Getter @Setter private boolean filteredSeeds;
@@ -93,6 +143,14 @@ public final class ConfigHandler {
         config = plugin.getConfig();
 
         loadWorldSettings();
+        loadWorldPoolSettings();
+        loadWorldCreationSettings();
+        loadLazyWorldSettings();
+        loadPregenerationSettings();
+        loadWorldTemplateSettings();
+        loadRunWorldProfileSettings();
+        loadWorldBorderSettings();
+        loadWorldDeletionSettings();
         loadTimerSettings();
         loadAFKSettings();
         loadPodiumSettings();
@@ -113,16 +171,81 @@ public final class ConfigHandler {
         podiumWorldName = config.getString("podium.world", mainOverworldName);
     }
 
+    private void loadWorldPoolSettings() {
+        worldPoolEnabled = config.getBoolean("world-pool.enabled", true);
+        worldPoolSizePerType = Math.max(0, config.getInt("world-pool.size-per-type", 2));
+        worldPoolSetsPerSeed = Math.max(1, config.getInt("world-pool.sets-per-seed", 2));
+        worldPoolRefillInterval = Math.max(1L, config.getLong("world-pool.refill-interval-seconds", 30)) * 20L;
+        worldPoolMinTps = config.getDouble("world-pool.min-tps", 19.5);
+    }
+
+    private void loadWorldCreationSettings() {
+        worldCreationTickBudgetNanos = Math.max(0L, config.getLong("world-creation.tick-budget-ms", 20)) * 1_000_000L;
+    }
+
+    private void loadLazyWorldSettings() {
+        lazyWorldsEnabled = config.getBoolean("lazy-worlds.enabled", true);
+    }
+
+    private void loadPregenerationSettings() {
+        pregenerationRadius = Math.max(0, config.getInt("pregeneration.radius-chunks", 4));
+        pregenerationMaxInFlight = Math.max(1, config.getInt("pregeneration.max-in-flight", 8));
+        pregenerationSyncChunksPerTick = Math.max(1, config.getInt("pregeneration.sync-chunks-per-tick", 2));
+    }
+
+    private void loadWorldTemplateSettings() {
+        worldTemplatesEnabled = config.getBoolean("world-templates.enabled", true);
+        worldTemplatesMaxBytes = Math.max(0L, config.getLong("world-templates.max-megabytes", 512)) * 1024 * 1024;
+        worldTemplatesRadius = Math.max(0, config.getInt("world-templates.radius-chunks", 12));
+        worldTemplatesCaptureRandomSeeds = config.getBoolean("world-templates.capture-random-seeds", false);
+    }
+
+    private void loadRunWorldProfileSettings() {
+        runWorldKeepSpawnInMemory = config.getBoolean("run-world-profile.keep-spawn-in-memory", false);
+        runWorldAutoSave = config.getBoolean("run-world-profile.auto-save", false);
+        runWorldViewDistance = config.getInt("run-world-profile.view-distance", 0);
+        runWorldMonsterSpawnLimit = config.getInt("run-world-profile.spawn-limits.monsters", -1);
+        runWorldAnimalSpawnLimit = config.getInt("run-world-profile.spawn-limits.animals", -1);
+        runWorldWaterAnimalSpawnLimit = config.getInt("run-world-profile.spawn-limits.water-animals", -1);
+        runWorldAmbientSpawnLimit = config.getInt("run-world-profile.spawn-limits.ambient", -1);
+    }
+
+    private void loadWorldBorderSettings() {
+        worldBorderEnabled = config.getBoolean("world-border.enabled", true);
+        worldBorderOverworldRadius = Math.max(1, config.getInt("world-border.overworld-radius", 4000));
+        worldBorderNetherRadius = Math.max(0, config.getInt("world-border.nether-radius", 0));
+        worldBorderEndRadius = Math.max(1, config.getInt("world-border.end-radius", 2000));
+    }
+
+    private void loadWorldDeletionSettings() {
+        worldDeletionBytesPerSecond = config.getLong("world-deletion.max-megabytes-per-second", 16) * 1024 * 1024;
+    }
+
     private void loadTimerSettings() {
         timerCountdown = config.getInt("timer.countdown-seconds", 10);
+        timerSidebarRefreshTicks = Math.max(1, config.getInt("timer.refresh-ticks.sidebar", 5));
+        timerActionBarRefreshTicks = Math.max(1, config.getInt("timer.refresh-ticks.action-bar", 5));
+        timerBossBarRefreshTicks = Math.max(1, config.getInt("timer.refresh-ticks.boss-bar", 5));
+        timerRefreshIntervals = Arrays.stream(new int[]{
+                timerSidebarRefreshTicks,
+                timerActionBarRefreshTicks,
+                timerBossBarRefreshTicks
+        }).distinct().toArray();
+
+        String display = config.getString("timer.display", "sidebar");
+        try {
+            timerDisplay = TimerDisplay.Type.valueOf(display.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            logger.warning("[SRP] Invalid timer display: " + display + ", using the sidebar");
+            timerDisplay = TimerDisplay.Type.SIDEBAR;
+        }
     }
 
     private void loadAFKSettings() {
         long timeoutMinutes = config.getLong("afk.timeout-minutes", 5);
-        long checkIntervalSeconds = config.getLong("afk.check-interval-seconds", 60);
         afkTimeout = timeoutMinutes * 60 * 1000;
-        afkCheckInterval = checkIntervalSeconds * 20L;
         afkMinDistance = config.getDouble("afk.min-distance", 1.0);
+        afkMaxChecksPerTick = Math.max(1, config.getInt("afk.max-checks-per-tick", 50));
     }
 
     private void loadPodiumSettings() {
@@ -153,6 +276,7 @@ public final class ConfigHandler {
         maxPlayers = config.getInt("game-rules.max-players", 4);
         maxRunTime = config.getLong("game-rules.max-time-minutes", 30) * 60 * 1000;
         maxRequestTime = config.getLong("game-rules.max-request-seconds", 30) * 1000;
+        maxCoopWaitTime = config.getLong("game-rules.max-coop-wait-seconds", 600) * 1000;
         filteredSeeds = config.getBoolean("game-rules.filtered-seeds.use-filtered-seeds", false);
         assistedTriangulation = config.getBoolean(
                 "game-rules.assisted-triangulation.use-assisted-triangulation",
@@ -0,0 +1,169 @@
+package com.fx.srp.listeners;
+
+import com.fx.srp.config.ConfigHandler;
+import com.fx.srp.managers.GameManager;
+import com.fx.srp.managers.util.PlayerFreezer;
+import com.fx.srp.managers.util.WorldRegistry;
+import com.fx.srp.model.EyeThrow;
+import com.fx.srp.model.player.Speedrunner;
+import com.fx.srp.model.run.Milestone;
+import com.fx.srp.model.run.Speedrun;
+import lombok.AllArgsConstructor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.EnderSignal;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Listens for the frequent events that are only relevant while speedruns are active and delegates handling to
+ * {@link GameManager}.
+ *
+ * <p>Movement, interaction and entity spawn events fire for every player on the server, most of whom never join a
+ * run. The {@link GameManager} therefore only registers this listener while at least one run is active, and
+ * unregisters it once the last run ends.</p>
+ */
+@AllArgsConstructor
+@SuppressWarnings("unused")
+public class ActiveRunListener implements Listener {
+
+    private final GameManager gameManager;
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+    private final PlayerFreezer playerFreezer = PlayerFreezer.getINSTANCE();
+    private final WorldRegistry worldRegistry = WorldRegistry.getINSTANCE();
+
+    // Slightly below the 12 block flight range of an ender signal, to allow for rounding
+    private static final double STRONGHOLD_SIGNAL_RANGE = 11.5;
+
+    /**
+     * Handles {@link PlayerMoveEvent}.
+     *
+     * <p>Frozen players are held in place first. Moves that only turn the head are ignored before any lookup.</p>
+     *
+     * @param event the movement event triggered by a player
+     */
+    @EventHandler
+    public void onMove(PlayerMoveEvent event) {
+        if (playerFreezer.isFrozen(event.getPlayer())) playerFreezer.hold(event);
+
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getX() == to.getX() && from.getY() == to.getY() && from.getZ() == to.getZ()) return;
+
+        gameManager.handlePlayerMove(event.getPlayer(), event);
+    }
+
+    /**
+     * Handles {@link PlayerInteractEvent}.
+     *
+     * @param event the interaction event triggered by a player
+     */
+    @EventHandler
+    public void onInteract(PlayerInteractEvent event) {
+        gameManager.handlePlayerInteract(event.getPlayer(), event);
+    }
+
+    /**
+     * Handles {@link PlayerInteractEvent} for creating the end ahead of its first use.
+     *
+     * <p>Placing an eye of ender into an end portal frame means the stronghold has been found, which is recorded as
+     * a milestone.</p>
+     *
+     * @param event the interact event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEyePlace(PlayerInteractEvent event) {
+        Block block = event.getClickedBlock();
+        if (event.getAction() != Action.RIGHT_CLICK_BLOCK || block == null) return;
+        if (block.getType() != Material.END_PORTAL_FRAME) return;
+        if (event.getItem() == null || event.getItem().getType() != Material.ENDER_EYE) return;
+
+        Optional<Speedrunner> runner = gameManager.getSpeedrunner(event.getPlayer());
+        if (runner.isEmpty() || !WorldEventListener.isSpeedrunOverworld(runner.get(), block.getWorld())) return;
+
+        gameManager.recordMilestone(runner.get(), Milestone.STRONGHOLD);
+        gameManager.prepareDimension(runner.get(), World.Environment.THE_END);
+    }
+
+    /**
+     * Handles {@link EntitySpawnEvent} for assisted triangulation.
+     *
+     * <p>Ensures that when an ender signal is spawned in the speedrun overworld, assisted triangulation is triggered.
+     * An ender signal that flies down means the stronghold is close, which is recorded as a milestone and creates the
+     * end ahead of its first use.</p>
+     *
+     * @param event the ender signal spawn event triggered by an ender eye throw in the speedrun overworld
+     */
+    @EventHandler
+    public void onEyeThrow(EntitySpawnEvent event) {
+        // Ensure the event is caused by an ender signal spawning
+        if (!(event.getEntity() instanceof EnderSignal)) {
+            return;
+        }
+
+        // Ignore ender signals outside of speedrun worlds
+        if (!worldRegistry.isSpeedrunWorld(event.getEntity().getWorld())) return;
+
+        // Ender signal info and flight data
+        EnderSignal eye = (EnderSignal) event.getEntity();
+        World world = eye.getWorld();
+        Location spawnLocation = eye.getLocation();
+        Location targetLocation = eye.getTargetLocation();
+
+        // Infer the responsible player by finding the nearest player (within 1 block) to the EnderSignal spawn
+        Player player = spawnLocation.getNearbyPlayers(1).stream()
+                .min(Comparator.comparingDouble(p -> p.getLocation().distance(spawnLocation)))
+                .orElse(null);
+
+        // Ensure that the responsible player could be inferred
+        if (player == null) return;
+
+        // Determine which run this player participates in
+        Optional<Speedrun> run = gameManager.getActiveRun(player);
+        if (run.isEmpty()) return; // Not in a speedrun
+
+        Speedrun speedrun = run.get();
+
+        // Only process if the run is actually running
+        if (speedrun.getState() != Speedrun.State.RUNNING) return;
+
+        // Ensure the speedrunner is present
+        Optional<Speedrunner> runner = gameManager.getSpeedrunner(player);
+        if (runner.isEmpty()) return;
+
+        Speedrunner speedrunner = runner.get();
+
+        // Ensure the event was in their speedrun overworld
+        if (!WorldEventListener.isSpeedrunOverworld(speedrunner, world)) return;
+
+        // The signal only targets the stronghold itself once it is within range, otherwise it targets a point
+        // at that range towards it
+        Location horizontalTarget = targetLocation.clone();
+        horizontalTarget.setY(spawnLocation.getY());
+        if (horizontalTarget.distance(spawnLocation) < STRONGHOLD_SIGNAL_RANGE) {
+            gameManager.recordMilestone(speedrunner, Milestone.STRONGHOLD);
+            gameManager.prepareDimension(speedrunner, World.Environment.THE_END);
+        }
+
+        // Only if assisted triangulation is enabled
+        if (!configHandler.isAssistedTriangulation()) return;
+
+        // Build eye throw
+        EyeThrow eyeThrow = new EyeThrow(player, spawnLocation, targetLocation, System.currentTimeMillis());
+
+        // Trigger triangulation
+        gameManager.assistedTriangulation(speedrunner, eyeThrow);
+    }
+}
@@ -5,16 +5,15 @@ import lombok.AllArgsConstructor;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Listens for player-related events and delegates handling to {@link GameManager}.
  *
- * <p>This listener captures events relevant to SRP gameplay, including movement,
- * interaction, respawn, and quit events.</p>
+ * <p>This listener captures events relevant to SRP gameplay, including respawn and
+ * quit events. Movement and interaction are handled by the {@link ActiveRunListener}
+ * while runs are active.</p>
  */
 @AllArgsConstructor
 @SuppressWarnings("unused")
@@ -22,26 +21,6 @@ public class PlayerEventListener implements Listener {
 
     private final GameManager gameManager;
 
-    /**
-     * Handles {@link PlayerMoveEvent}.
-     *
-     * @param event the movement event triggered by a player
-     */
-    @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        gameManager.handlePlayerMove(event.getPlayer(), event);
-    }
-
-    /**
-     * Handles {@link PlayerInteractEvent}.
-     *
-     * @param event the interaction event triggered by a player
-     */
-    @EventHandler
-    public void onInteract(PlayerInteractEvent event) {
-        gameManager.handlePlayerInteract(event.getPlayer(), event);
-    }
-
     /**
      * Handles {@link PlayerRespawnEvent}.
      *
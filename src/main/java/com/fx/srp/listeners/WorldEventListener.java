@@ -1,24 +1,24 @@
 package com.fx.srp.listeners;
 
-import com.fx.srp.config.ConfigHandler;
 import com.fx.srp.managers.GameManager;
-import com.fx.srp.model.EyeThrow;
+import com.fx.srp.managers.util.WorldRegistry;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.model.run.Speedrun;
 import lombok.AllArgsConstructor;
-import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.entity.EnderSignal;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.PortalCreateEvent;
 
-import java.util.Comparator;
 import java.util.Optional;
 
 /**
@@ -26,7 +26,11 @@ import java.util.Optional;
  * handling to {@link GameManager}.
  *
  * <p>This listener currently handles events such as entity deaths, specifically
- * the Ender Dragon, to determine if a speedrun has been completed.</p>
+ * the Ender Dragon, to determine if a speedrun has been completed. It also creates
+ * the lazily created nether and end of speedrun worlds ahead of or on their first use.</p>
+ *
+ * <p>Eye of ender events, which fire for every player on the server, are handled by the
+ * {@link ActiveRunListener} while runs are active.</p>
  */
 @AllArgsConstructor
 @SuppressWarnings("unused")
@@ -34,7 +38,7 @@ public class WorldEventListener implements Listener {
 
     private final GameManager gameManager;
 
-    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+    private final WorldRegistry worldRegistry = WorldRegistry.getINSTANCE();
 
     /**
      * Handles {@link PlayerTeleportEvent} for determining when a run is completed.
@@ -47,13 +51,17 @@ public class WorldEventListener implements Listener {
     public void onPlayerTeleport(PlayerTeleportEvent event) {
         Player player = event.getPlayer();
         World world = event.getFrom().getWorld();
-        Block sourceBlock = event.getFrom().getBlock();
 
-        // Ensure the event was in the speedrun end world
+        // Ignore teleports outside of speedrun end worlds
+        WorldRegistry.Entry entry = worldRegistry.get(world);
+        if (entry == null || entry.getDimension() != World.Environment.THE_END) return;
+
+        // Ensure the event was in the speedrun end world of the player
         Optional<Speedrunner> runner = gameManager.getSpeedrunner(player);
-        if (runner.isEmpty() || !runner.get().getWorldSet().getEnd().getName().equals(world.getName())) return;
+        if (runner.isEmpty() || runner.get().getWorldSet() != entry.getWorldSet()) return;
 
         // Ensure the event was fired from the end portal
+        Block sourceBlock = event.getFrom().getBlock();
         if (!sourceBlock.getType().equals(Material.END_PORTAL)) return;
 
         // Cancel the teleport event
@@ -72,60 +80,99 @@ public class WorldEventListener implements Listener {
     }
 
     /**
-     * Handles {@link EntitySpawnEvent} for assisted triangulation.
+     * Handles {@link PlayerPortalEvent} for entering a lazily created nether or end.
      *
-     * <p>Ensures that when an ender signal is spawned in the speedrun overworld, assisted triangulation is triggered.
-     * </p>
+     * <p>Creates the destination world synchronously if it was not created in the background yet. While its template
+     * is still being copied the portal use is cancelled, the portal is used again once the player remains in it.</p>
      *
-     * @param event the ender signal spawn event triggered by an ender eye throw in the speedrun overworld
+     * @param event the portal event triggered in the speedrun overworld
      */
-    @EventHandler
-    public void onEyeThrow(EntitySpawnEvent event) {
-        // Ensure the event is caused by an ender signal spawning
-        if (!(event.getEntity() instanceof EnderSignal)) {
-            return;
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerPortal(PlayerPortalEvent event) {
+        World.Environment destination;
+        switch (event.getCause()) {
+            case NETHER_PORTAL:
+                destination = World.Environment.NETHER;
+                break;
+            case END_PORTAL:
+                destination = World.Environment.THE_END;
+                break;
+            default:
+                return;
         }
 
-        // Only if assisted triangulation is enabled
-        if (!configHandler.isAssistedTriangulation()) return;
+        // Ensure the portal was used in the speedrun overworld
+        World world = event.getFrom().getWorld();
+        if (!worldRegistry.isSpeedrunWorld(world)) return;
+        Optional<Speedrunner> runner = gameManager.getSpeedrunner(event.getPlayer());
+        if (runner.isEmpty() || !isSpeedrunOverworld(runner.get(), world)) return;
 
-        // Ender signal info and flight data
-        EnderSignal eye = (EnderSignal) event.getEntity();
-        World world = eye.getWorld();
-        Location spawnLocation = eye.getLocation();
-        Location targetLocation = eye.getTargetLocation();
+        if (!gameManager.ensureDimension(runner.get(), destination)) event.setCancelled(true);
+    }
 
-        // Infer the responsible player by finding the nearest player (within 1 block) to the EnderSignal spawn
-        Player player = spawnLocation.getNearbyPlayers(1).stream()
-                .min(Comparator.comparingDouble(p -> p.getLocation().distance(spawnLocation)))
-                .orElse(null);
+    /**
+     * Handles {@link PlayerChangedWorldEvent} for recording the milestones of moving between speedrun worlds.
+     *
+     * @param event the world change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        // Ignore changes between worlds that are no speedrun worlds
+        World to = event.getPlayer().getWorld();
+        if (!worldRegistry.isSpeedrunWorld(event.getFrom()) && !worldRegistry.isSpeedrunWorld(to)) return;
 
-        // Ensure that the responsible player could be inferred
-        if (player == null) return;
+        gameManager.handleWorldChange(event.getPlayer(), event.getFrom());
+    }
 
-        // Determine which run this player participates in
-        Optional<Speedrun> run = gameManager.getActiveRun(player);
-        if (run.isEmpty()) return; // Not in a speedrun
+    /**
+     * Handles {@link PortalCreateEvent} for creating the nether ahead of its first use.
+     *
+     * @param event the portal creation event triggered by lighting a nether portal
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPortalLight(PortalCreateEvent event) {
+        if (event.getReason() != PortalCreateEvent.CreateReason.FIRE) return;
+        if (!(event.getEntity() instanceof Player)) return;
 
-        Speedrun speedrun = run.get();
+        prepareDimension((Player) event.getEntity(), event.getWorld(), World.Environment.NETHER);
+    }
 
-        // Only process if the run is actually running
-        if (speedrun.getState() != Speedrun.State.RUNNING) return;
+    /**
+     * Handles {@link BlockPlaceEvent} for creating the nether ahead of its first use.
+     *
+     * <p>Placing obsidian is taken as the start of building a nether portal.</p>
+     *
+     * @param event the block place event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onObsidianPlace(BlockPlaceEvent event) {
+        if (event.getBlockPlaced().getType() != Material.OBSIDIAN) return;
 
-        // Ensure the speedrunner is present
-        Optional<Speedrunner> runner = gameManager.getSpeedrunner(player);
-        if (runner.isEmpty()) return;
+        prepareDimension(event.getPlayer(), event.getBlockPlaced().getWorld(), World.Environment.NETHER);
+    }
 
-        Speedrunner speedrunner = runner.get();
+    /**
+     * Handles {@link ChunkLoadEvent} for counting the chunks generated in speedrun worlds.
+     *
+     * @param event the chunk load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (event.isNewChunk()) gameManager.recordGeneratedChunk(event.getWorld());
+    }
 
-        // Ensure the event was in their speedrun overworld
-        if (!speedrunner.getWorldSet().getOverworld().getName().equals(world.getName())) return;
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void prepareDimension(Player player, World world, World.Environment environment) {
+        if (!worldRegistry.isSpeedrunWorld(world)) return;
+        Optional<Speedrunner> runner = gameManager.getSpeedrunner(player);
+        if (runner.isEmpty() || !isSpeedrunOverworld(runner.get(), world)) return;
 
-        // Build eye throw
-        EyeThrow eyeThrow = new EyeThrow(player, spawnLocation, targetLocation, System.currentTimeMillis());
+        gameManager.prepareDimension(runner.get(), environment);
+    }
 
-        // Trigger triangulation
-        gameManager.assistedTriangulation(speedrunner, eyeThrow);
+    static boolean isSpeedrunOverworld(Speedrunner speedrunner, World world) {
+        return WorldRegistry.getINSTANCE().isDimension(world, speedrunner.getWorldSet(), World.Environment.NORMAL);
     }
 }
-
@@ -1,17 +1,20 @@
 package com.fx.srp.managers;
 
+import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.model.run.Speedrun;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.Collection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 /**
  * Maintains a registry of all currently active speedruns and the players
@@ -20,6 +23,10 @@ import java.util.stream.Collectors;
  * <p>This singleton class allows tracking, adding, removing, and querying
  * active runs. Each player is associated with a single {@link Speedrun} at a time.</p>
  *
+ * <p>Players are indexed by their UUID to their {@link Participant} entry, holding both their run and their
+ * {@link Speedrunner}, so event handlers resolve a participant with a single lookup. Runs are indexed to the
+ * UUIDs of their players.</p>
+ *
  * <p>Provides a singleton instance accessible via {@link #getINSTANCE()}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -27,7 +34,18 @@ public class ActiveRunRegistry {
 
     @Getter private static final ActiveRunRegistry INSTANCE = new ActiveRunRegistry();
 
-    private final Map<UUID, Speedrun> activeRuns = new ConcurrentHashMap<>();
+    private final Map<UUID, Participant> participants = new ConcurrentHashMap<>();
+    private final Map<Speedrun, List<UUID>> runParticipants = new ConcurrentHashMap<>();
+
+    /**
+     * A player participating in an active run.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Participant {
+        private final Speedrun run;
+        private final Speedrunner speedrunner;
+    }
 
     /**
      * Checks whether the given player is currently participating in any active run.
@@ -36,26 +54,48 @@ public class ActiveRunRegistry {
      * @return {@code true} if the player is in a run, otherwise {@code false}
      */
     public boolean isPlayerInAnyRun(UUID playerId) {
-        return activeRuns.containsKey(playerId);
+        return participants.containsKey(playerId);
     }
 
     /**
-     * Registers a player in an active run.
+     * Registers a run and all players participating in it.
      *
-     * @param playerId the UUID of the player
-     * @param run the {@link Speedrun} the player is participating in
+     * @param run the {@link Speedrun} to register
+     */
+    public void addRun(Speedrun run) {
+        List<Speedrunner> speedrunners = run.getSpeedrunners();
+        List<UUID> playerIds = new ArrayList<>(speedrunners.size());
+        for (Speedrunner speedrunner : speedrunners) {
+            UUID playerId = speedrunner.getPlayer().getUniqueId();
+            participants.put(playerId, new Participant(run, speedrunner));
+            playerIds.add(playerId);
+        }
+        runParticipants.put(run, Collections.unmodifiableList(playerIds));
+    }
+
+    /**
+     * Removes a run and all players participating in it, does nothing if the run is not registered.
+     *
+     * @param run the {@link Speedrun} to remove
      */
-    public void addRun(UUID playerId, Speedrun run) {
-        activeRuns.put(playerId, run);
+    public void removeRun(Speedrun run) {
+        List<UUID> playerIds = runParticipants.remove(run);
+        if (playerIds == null) return;
+
+        // Players may have joined another run in the meantime
+        for (UUID playerId : playerIds) {
+            participants.computeIfPresent(playerId, (id, participant) -> participant.run == run ? null : participant);
+        }
     }
 
     /**
-     * Removes a player from the active run registry.
+     * Retrieves the participant entry of a player.
      *
-     * @param playerId the UUID of the player to remove
+     * @param playerId the UUID of the player
+     * @return the {@link Participant}, or {@code null} if the player is not in a run
      */
-    public void removeRun(UUID playerId) {
-        activeRuns.remove(playerId);
+    public Participant getParticipant(UUID playerId) {
+        return participants.get(playerId);
     }
 
     /**
@@ -65,16 +105,26 @@ public class ActiveRunRegistry {
      * @return the {@link Speedrun} the player is in, or {@code null} if none
      */
     public Speedrun getActiveRun(UUID playerId) {
-        return activeRuns.get(playerId);
+        Participant participant = participants.get(playerId);
+        return participant == null ? null : participant.run;
     }
 
     /**
-     * Returns a collection of all currently active runs.
+     * Returns a collection of all currently active runs, each run once.
      *
      * @return a {@link Collection} of {@link Speedrun} objects
      */
     public Collection<Speedrun> getAllRuns() {
-        return activeRuns.values();
+        return runParticipants.keySet();
+    }
+
+    /**
+     * Performs an action for each player participating in an active run, in a single pass without copying.
+     *
+     * @param action the action receiving the UUID of the player and the {@link Speedrun} they are in
+     */
+    public void forEachPlayer(BiConsumer<UUID, Speedrun> action) {
+        participants.forEach((playerId, participant) -> action.accept(playerId, participant.run));
     }
 
     /**
@@ -83,18 +133,16 @@ public class ActiveRunRegistry {
      * @return a {@link List} of player UUIDs
      */
     public List<UUID> getAllPlayersInRuns() {
-        return new ArrayList<>(activeRuns.keySet());
+        return new ArrayList<>(participants.keySet());
     }
 
     /**
-     * Returns a list of all player UUIDs currently participating in any run.
+     * Returns the UUIDs of the players participating in a run.
      *
-     * @return a {@link List} of player UUIDs
+     * @param run the {@link Speedrun}
+     * @return an unmodifiable {@link List} of player UUIDs, empty if the run is not registered
      */
     public List<UUID> getAllPlayersInRun(Speedrun run) {
-        return activeRuns.entrySet().stream()
-                .filter(entry -> entry.getValue() == run)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        return runParticipants.getOrDefault(run, List.of());
     }
 }
@@ -0,0 +1,300 @@
+package com.fx.srp.managers;
+
+import com.fx.srp.config.ConfigHandler;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Admission control in front of run registration, enforcing the configured maximum number of speedrunners.
+ *
+ * <p>Admitting a run reserves a slot for each of its players in the same call that checks the capacity and
+ * whether any of the players already holds a slot, so two requests for the same player can never both pass.
+ * Runs that do not fit wait in a FIFO queue and are started as soon as enough slots are released, their players
+ * are informed about their position and the estimated wait.</p>
+ *
+ * <p>The controller is only accessed from the main server thread, metrics may be read from any thread.</p>
+ */
+public class AdmissionController {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    // Weight of the latest run in the average run duration
+    private static final double RUN_DURATION_SMOOTHING = 0.2;
+
+    private final Map<UUID, Reservation> reservations = new HashMap<>();
+    private final Deque<QueuedRun> queue = new ArrayDeque<>();
+    private long averageRunMillis;
+
+    // Metrics
+    @Getter private final AtomicLong admitted = new AtomicLong();
+    @Getter private final AtomicLong queued = new AtomicLong();
+    @Getter private final AtomicLong abandoned = new AtomicLong();
+
+    /**
+     * Slots held by the players of an admitted run.
+     */
+    private static class Reservation {
+        private final Set<UUID> players;
+        private final long admittedAt = System.currentTimeMillis();
+
+        private Reservation(Set<UUID> players) {
+            this.players = players;
+        }
+    }
+
+    /**
+     * A run waiting for slots.
+     */
+    @AllArgsConstructor
+    private static class QueuedRun {
+        private final List<Player> players;
+        private final Runnable onAdmitted;
+    }
+
+    /* ==========================================================
+     *                         ADMISSION
+     * ========================================================== */
+    /**
+     * Reserves a slot for each player and starts the run, or queues it until enough slots are free.
+     *
+     * @param players    the players of the run
+     * @param onAdmitted starts the run, invoked once the slots are reserved
+     * @return {@code true} if the run was started or queued, {@code false} if it was rejected
+     */
+    public boolean admit(List<Player> players, Runnable onAdmitted) {
+        // A player can only hold one slot or queue entry at a time
+        Player busy = players.stream().filter(this::isReservedOrQueued).findFirst().orElse(null);
+        if (busy != null) {
+            players.forEach(player -> player.sendMessage(ChatColor.GRAY + busy.getName() +
+                    ChatColor.RED + " is already in a speedrun or waiting for one!"));
+            return false;
+        }
+
+        int capacity = getCapacity();
+        if (players.size() > capacity) {
+            players.forEach(player -> player.sendMessage(ChatColor.RED + "This run needs " + players.size() +
+                    " players, but only " + capacity + " may speedrun at the same time!"));
+            return false;
+        }
+
+        // Queued runs go first
+        if (queue.isEmpty() && fits(players.size())) {
+            launch(players, onAdmitted);
+            return true;
+        }
+
+        queue.addLast(new QueuedRun(players, onAdmitted));
+        queued.incrementAndGet();
+        sendQueuePosition(queue.size(), queue.peekLast());
+        return true;
+    }
+
+    /**
+     * Releases the slots of the given players and starts queued runs that fit into the freed slots.
+     *
+     * @param players the players whose run has finished or been aborted
+     */
+    public void release(Collection<UUID> players) {
+        boolean released = false;
+        for (UUID player : players) {
+            Reservation reservation = reservations.remove(player);
+            if (reservation == null) continue;
+            released = true;
+
+            // Record the duration once the last player of a run released their slot
+            reservation.players.remove(player);
+            if (reservation.players.isEmpty()) recordRunDuration(reservation);
+        }
+        if (released) drainQueue();
+    }
+
+    /**
+     * Removes the queued run of a player, e.g. when they leave the server.
+     *
+     * @param player the player leaving the queue
+     * @return {@code true} if the player was queued
+     */
+    public boolean leaveQueue(Player player) {
+        Iterator<QueuedRun> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            QueuedRun queuedRun = iterator.next();
+            if (!queuedRun.players.contains(player)) continue;
+
+            iterator.remove();
+            abandoned.incrementAndGet();
+            queuedRun.players.forEach(other -> other.sendMessage(ChatColor.GRAY + player.getName() +
+                    ChatColor.YELLOW + " left the queue, the run has been cancelled."));
+            drainQueue();
+            return true;
+        }
+        return false;
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the number of reserved slots.
+     *
+     * @return the number of players holding a slot
+     */
+    public int getUsedSlots() {
+        return reservations.size();
+    }
+
+    /**
+     * Returns the number of runs waiting for slots.
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the maximum number of players that may speedrun at the same time.
+     *
+     * @return the number of slots
+     */
+    public int getCapacity() {
+        int maxPlayers = configHandler.getMaxPlayers();
+        return maxPlayers <= 0 ? Integer.MAX_VALUE : maxPlayers;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void drainQueue() {
+        boolean admittedAny = false;
+        while (!queue.isEmpty()) {
+            QueuedRun head = queue.peekFirst();
+
+            // Runs with players that went offline are dropped
+            Player offline = head.players.stream().filter(player -> !player.isOnline()).findFirst().orElse(null);
+            if (offline != null) {
+                queue.pollFirst();
+                abandoned.incrementAndGet();
+                head.players.forEach(player -> player.sendMessage(ChatColor.GRAY + offline.getName() +
+                        ChatColor.YELLOW + " went offline, the run has been cancelled."));
+                continue;
+            }
+
+            // Strictly first come, first served
+            if (!fits(head.players.size())) break;
+
+            queue.pollFirst();
+            head.players.forEach(player ->
+                    player.sendMessage(ChatColor.GREEN + "A slot is available, starting your run!"));
+            launch(head.players, head.onAdmitted);
+            admittedAny = true;
+        }
+
+        // Everyone else moved up
+        if (admittedAny) {
+            int position = 1;
+            for (QueuedRun queuedRun : queue) {
+                sendQueuePosition(position++, queuedRun);
+            }
+        }
+    }
+
+    // Reserves the slots and starts the run, the slots are handed back if the run could not be started
+    private void launch(List<Player> players, Runnable onAdmitted) {
+        Player offline = players.stream().filter(player -> !player.isOnline()).findFirst().orElse(null);
+        if (offline != null) {
+            abandoned.incrementAndGet();
+            players.forEach(player -> player.sendMessage(ChatColor.GRAY + offline.getName() +
+                    ChatColor.YELLOW + " went offline, the run has been cancelled."));
+            return;
+        }
+
+        reserve(players);
+        try {
+            onAdmitted.run();
+        } catch (RuntimeException e) {
+            // Not released through release(), which would start queued runs from within the launch
+            players.forEach(player -> reservations.remove(player.getUniqueId()));
+            abandoned.incrementAndGet();
+            Bukkit.getLogger().warning("[SRP] Failed to start an admitted run: " + e.getMessage());
+            players.forEach(player -> player.sendMessage(ChatColor.RED + "Your run could not be started!"));
+        }
+    }
+
+    private boolean fits(int players) {
+        return reservations.size() + players <= getCapacity();
+    }
+
+    private void reserve(List<Player> players) {
+        Reservation reservation = new Reservation(
+                players.stream().map(Player::getUniqueId).collect(Collectors.toCollection(HashSet::new))
+        );
+        reservation.players.forEach(player -> reservations.put(player, reservation));
+        admitted.incrementAndGet();
+    }
+
+    private boolean isReservedOrQueued(Player player) {
+        return reservations.containsKey(player.getUniqueId())
+                || queue.stream().anyMatch(queuedRun -> queuedRun.players.contains(player));
+    }
+
+    private void recordRunDuration(Reservation reservation) {
+        long duration = System.currentTimeMillis() - reservation.admittedAt;
+        averageRunMillis = averageRunMillis == 0
+                ? duration
+                : (long) (averageRunMillis + RUN_DURATION_SMOOTHING * (duration - averageRunMillis));
+    }
+
+    private void sendQueuePosition(int position, QueuedRun queuedRun) {
+        String message = ChatColor.YELLOW + "All speedrun slots are taken, you are " +
+                ChatColor.WHITE + "#" + position + ChatColor.YELLOW + " in the queue" +
+                ChatColor.GRAY + " (estimated wait: ~" + estimateWaitMinutes(position) + " min)";
+        queuedRun.players.forEach(player -> player.sendMessage(message));
+    }
+
+    private long estimateWaitMinutes(int position) {
+        long expectedRunMillis = averageRunMillis > 0 ? averageRunMillis : configHandler.getMaxRunTime() / 2;
+
+        // Slots needed until the run at this position fits, counting the runs ahead of it
+        int needed = reservations.size() - getCapacity();
+        Iterator<QueuedRun> iterator = queue.iterator();
+        for (int i = 0; i < position && iterator.hasNext(); i++) {
+            needed += iterator.next().players.size();
+        }
+        if (needed <= 0) return 1;
+
+        // Expected remaining time of each reserved slot, soonest first
+        long now = System.currentTimeMillis();
+        List<Long> remaining = new ArrayList<>(reservations.size());
+        reservations.values().forEach(reservation ->
+                remaining.add(Math.max(0, expectedRunMillis - (now - reservation.admittedAt))));
+        remaining.sort(null);
+
+        // Beyond the current runs, the queued runs ahead have to finish as well
+        long waitMillis;
+        if (needed <= remaining.size()) {
+            waitMillis = remaining.get(needed - 1);
+        } else {
+            long rounds = (needed - remaining.size() + getCapacity() - 1) / getCapacity();
+            waitMillis = (remaining.isEmpty() ? 0 : remaining.get(remaining.size() - 1)) + rounds * expectedRunMillis;
+        }
+        return Math.max(1, TimeUnit.MILLISECONDS.toMinutes(waitMillis + TimeUnit.MINUTES.toMillis(1) - 1));
+    }
+}
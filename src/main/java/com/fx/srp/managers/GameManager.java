@@ -5,28 +5,50 @@ import com.fx.srp.managers.gamemodes.SoloManager;
 import com.fx.srp.managers.gamemodes.BattleManager;
 import com.fx.srp.managers.gamemodes.CoopManager;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.listeners.ActiveRunListener;
 import com.fx.srp.managers.util.AfkManager;
 import com.fx.srp.managers.util.LeaderboardManager;
+import com.fx.srp.managers.util.LeaderboardSnapshot;
+import com.fx.srp.managers.util.MilestoneTracker;
+import com.fx.srp.managers.util.PlayerFreezer;
+import com.fx.srp.managers.util.RequestBroker;
 import com.fx.srp.managers.util.SeedManager;
+import com.fx.srp.managers.util.TeleportService;
 import com.fx.srp.managers.util.TriangulationManager;
+import com.fx.srp.managers.util.WorldCostTracker;
+import com.fx.srp.managers.util.WorldCreationScheduler;
+import com.fx.srp.managers.util.WorldDeletionPipeline;
+import com.fx.srp.managers.util.WorldTemplateCache;
 import com.fx.srp.managers.util.WorldManager;
+import com.fx.srp.managers.util.WorldPool;
 import com.fx.srp.model.EyeThrow;
 import com.fx.srp.model.player.Speedrunner;
+import com.fx.srp.model.run.Milestone;
 import com.fx.srp.model.run.Speedrun;
 import com.fx.srp.model.run.SoloSpeedrun;
 import com.fx.srp.model.run.BattleSpeedrun;
 import com.fx.srp.model.run.CoopSpeedrun;
 import com.fx.srp.model.seed.SeedCategory;
+import com.fx.srp.util.time.RunClock;
+import com.fx.srp.util.time.TickStallMonitor;
+import com.fx.srp.util.time.TimeFormatter;
+import com.fx.srp.util.ui.TimerDisplay;
+import com.fx.srp.util.ui.TimerUtil;
 import lombok.NonNull;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
+import org.bukkit.event.HandlerList;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -46,6 +68,14 @@ import java.util.stream.Collectors;
 public class GameManager {
 
     private final ActiveRunRegistry runRegistry = ActiveRunRegistry.getINSTANCE();
+    private final TickStallMonitor tickStallMonitor = TickStallMonitor.getINSTANCE();
+    private final SpeedRunPlus plugin;
+
+    // Maximum number of world sets listed individually in the statistics
+    private static final int STATS_MAX_WORLD_SETS = 5;
+
+    // Number of entries per page of the leaderboard command
+    private static final int LEADERBOARD_PAGE_SIZE = 10;
 
     // Game modes
     private final SoloManager soloManager;
@@ -57,6 +87,15 @@ public class GameManager {
     private final AfkManager afkManager;
     private final LeaderboardManager leaderboardManager;
     private final TriangulationManager triangulationManager;
+    private final MilestoneTracker milestoneTracker = new MilestoneTracker();
+    private final WorldManager worldManager;
+    private final AdmissionController admissionController = new AdmissionController();
+    private final HudTickDriver hudTickDriver;
+    private final RequestBroker requestBroker;
+
+    // Handlers of frequent events, only registered while runs are active
+    private final ActiveRunListener activeRunListener = new ActiveRunListener(this);
+    private boolean activeRunListenerRegistered;
 
     /**
      * Constructs a new {@link GameManager} and initializes all sub-managers
@@ -65,12 +104,16 @@ public class GameManager {
      * @param plugin the main {@link SpeedRunPlus} plugin instance
      */
     public GameManager(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+
         // Utilities
         this.afkManager = new AfkManager(plugin);
         this.leaderboardManager = new LeaderboardManager(plugin);
         this.seedManager = new SeedManager(plugin);
         this.triangulationManager = new TriangulationManager();
-        WorldManager worldManager = new WorldManager(plugin, seedManager);
+        this.worldManager = new WorldManager(plugin, seedManager);
+        this.hudTickDriver = new HudTickDriver(plugin);
+        this.requestBroker = new RequestBroker(plugin);
 
         // Game mode managers
         this.soloManager = new SoloManager(plugin, this, worldManager);
@@ -92,6 +135,15 @@ public class GameManager {
         return coopManager;
     }
 
+    /**
+     * Returns the RequestBroker instance, shared by the multiplayer game modes.
+     *
+     * @return the RequestBroker
+     */
+    public RequestBroker getRequestBroker() {
+        return requestBroker;
+    }
+
     /* ==========================================================
      *                      Run Management
      * ========================================================== */
@@ -116,6 +168,21 @@ public class GameManager {
         return runRegistry.isPlayerInAnyRun(player.getUniqueId());
     }
 
+    /**
+     * Admits a new run for the given players, enforcing the maximum number of simultaneous speedrunners.
+     *
+     * <p>Slots are reserved for all players at once, the run is started right away if they fit, otherwise it is
+     * queued and started once enough slots are released. Players that already hold a slot or are queued are
+     * rejected, which prevents a player from ending up in two runs.</p>
+     *
+     * @param players    the players of the run
+     * @param onAdmitted starts the run, invoked once the slots are reserved
+     * @return {@code true} if the run was started or queued, {@code false} if it was rejected
+     */
+    public boolean admitRun(List<Player> players, Runnable onAdmitted) {
+        return admissionController.admit(players, onAdmitted);
+    }
+
     /**
      * Registers a new speedrun for all associated players.
      *
@@ -124,14 +191,17 @@ public class GameManager {
      * @param run the {@link Speedrun} to register
      */
     public void registerRun(Speedrun run) {
-        run.getSpeedrunners().forEach(player ->
-                runRegistry.addRun(player.getPlayer().getUniqueId(), run)
-        );
+        runRegistry.addRun(run);
+        run.getSpeedrunners().forEach(speedrunner -> afkManager.track(speedrunner.getPlayer()));
+        hudTickDriver.register(run);
 
         // No selected-teammate state to clear (coops are managed by CoopManager)
 
-        // Start AFK monitoring once we have at least one active run
+        // Start AFK monitoring, the timer HUD and the run event handlers once we have at least one active run
         startAfkMonitoring();
+        hudTickDriver.start();
+        tickStallMonitor.start(plugin);
+        registerActiveRunListener();
     }
 
     /**
@@ -142,13 +212,19 @@ public class GameManager {
      * @param run the {@link Speedrun} to unregister
      */
     public void unregisterRun(Speedrun run) {
-        run.getSpeedrunners().forEach(player ->
-                runRegistry.removeRun(player.getPlayer().getUniqueId())
-        );
+        runRegistry.removeRun(run);
+        run.getSpeedrunners().forEach(player -> {
+            TimerUtil.removeTimer(player.getPlayer());
+            afkManager.remove(player.getPlayer());
+        });
+        hudTickDriver.unregister(run);
 
-        // Stop AFK monitoring when there are no active runs
+        // Stop AFK monitoring, the timer HUD and the run event handlers when there are no active runs
         if (runRegistry.getAllRuns().isEmpty()) {
             afkManager.stopAfkChecker();
+            hudTickDriver.stop();
+            tickStallMonitor.stop();
+            unregisterActiveRunListener();
         }
     }
 
@@ -162,12 +238,36 @@ public class GameManager {
      * @param player the winner
      */
     public void completeRun(Speedrun run, @NonNull Player player) {
+        // Stop the clock first, so the announced and the recorded time match
+        RunClock clock = run.getClock();
+        clock.stop();
+
+        // Show every runner their splits
+        run.getSpeedrunners().forEach(speedrunner -> {
+            String splits = MilestoneTracker.formatSplits(run.getMilestoneTimes(speedrunner));
+            if (splits != null) speedrunner.getPlayer().sendMessage(ChatColor.GREEN + "Splits: " + splits);
+        });
+        long[] winnerSplits = getSpeedrunner(player)
+                .map(run::getMilestoneTimes)
+                .orElse(null);
+
         if (run instanceof SoloSpeedrun) soloManager.stop(player);
         if (run instanceof BattleSpeedrun) battleManager.stop(player);
         if (run instanceof CoopSpeedrun) coopManager.stop(player);
 
-        // Persist changes to the leaderboard
-        leaderboardManager.finishRun(player, run.getStopWatch().getTime());
+        // Tell the winner how much server lag was removed from their time
+        long loadRemovedTime = clock.getLoadRemovedTime();
+        if (loadRemovedTime != clock.getTime()) {
+            player.sendMessage(ChatColor.GREEN + "Load-removed time: " + ChatColor.GRAY +
+                    new TimeFormatter(loadRemovedTime).withHours().withSuperscriptMs().format() +
+                    ChatColor.GREEN + " (" + clock.getStalls() + " lagging ticks removed)");
+        }
+
+        // Persist changes to the leaderboard, lag caused by other runs does not count against the winner
+        boolean personalBest = leaderboardManager.isPersonalBest(player.getUniqueId(), loadRemovedTime);
+        int rank = leaderboardManager.finishRun(player, loadRemovedTime, winnerSplits);
+        player.sendMessage(ChatColor.GREEN + (personalBest ? "New personal best! " : "") + "Your run is ranked " +
+                ChatColor.GRAY + "#" + rank + ChatColor.GREEN + " on the leaderboard.");
     }
 
     /**
@@ -178,13 +278,35 @@ public class GameManager {
         ActiveRunRegistry.getINSTANCE().getAllRuns().forEach(run -> abortRun(run, null, null));
     }
 
+    /**
+     * Abort all active runs and stop any background work, e.g. refilling the world pool.
+     */
+    public void shutdown() {
+        abortAllRuns();
+        hudTickDriver.stop();
+        tickStallMonitor.stop();
+        unregisterActiveRunListener();
+        requestBroker.shutdown();
+        leaderboardManager.shutdown();
+        worldManager.shutdown();
+    }
+
     /**
      * Abort a player's active run.
      *
      * @param player the player's run to abort (including all other players in the same run)
      */
     public void abortRun(@NonNull Player player) {
-        getActiveRun(player).ifPresent(run -> abortRun(run, player, null));
+        Optional<Speedrun> run = getActiveRun(player);
+        if (run.isPresent()) {
+            abortRun(run.get(), player, null);
+            return;
+        }
+
+        // Not in a run yet, but possibly waiting for one
+        if (admissionController.leaveQueue(player)) {
+            player.sendMessage(ChatColor.YELLOW + "You left the speedrun queue.");
+        }
     }
 
     /**
@@ -196,8 +318,18 @@ public class GameManager {
         // Delegate to the appropriate manager for mode-specific cleanup
         run.getGameMode().getManager().abort(run, sender, reason);
 
-        run.getSpeedrunners().forEach(runner ->
-                runRegistry.removeRun(runner.getPlayer().getUniqueId())
+        runRegistry.removeRun(run);
+    }
+
+    /**
+     * Frees the slots of a run for queued runs, once its cleanup has completed and its worlds are deleted.
+     *
+     * @param run the finished or aborted {@code Speedrun}
+     */
+    public void releaseSlots(Speedrun run) {
+        admissionController.release(run.getSpeedrunners().stream()
+                .map(runner -> runner.getPlayer().getUniqueId())
+                .collect(Collectors.toList())
         );
     }
 
@@ -235,9 +367,9 @@ public class GameManager {
      * @return an {@link Optional} containing the {@link Speedrunner}, or empty if not in a run
      */
     public Optional<Speedrunner> getSpeedrunner(Player player) {
-        return getActiveRun(player).flatMap(run -> run.getSpeedrunners().stream()
-                .filter(runner -> runner.getPlayer().equals(player))
-                .findFirst());
+        if (player == null) return Optional.empty();
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(player.getUniqueId());
+        return participant == null ? Optional.empty() : Optional.of(participant.getSpeedrunner());
     }
 
     /**
@@ -262,22 +394,78 @@ public class GameManager {
         triangulationManager.assistedTriangulation(speedrunner, eyeThrow);
     }
 
+    /**
+     * Creates the nether or end of a speedrunner's worlds in the background, ahead of its first use.
+     *
+     * @param speedrunner the speedrunner who is about to need the dimension
+     * @param environment {@link World.Environment#NETHER} or {@link World.Environment#THE_END}
+     */
+    public void prepareDimension(Speedrunner speedrunner, World.Environment environment) {
+        worldManager.prepareDimension(speedrunner.getWorldSet(), environment);
+    }
+
+    /**
+     * Makes sure the nether or end of a speedrunner's worlds exists before it is entered.
+     *
+     * @param speedrunner the speedrunner entering the dimension
+     * @param environment {@link World.Environment#NETHER} or {@link World.Environment#THE_END}
+     * @return {@code true} if the dimension exists, {@code false} if it is still being created
+     */
+    public boolean ensureDimension(Speedrunner speedrunner, World.Environment environment) {
+        return worldManager.ensureDimension(speedrunner.getWorldSet(), environment);
+    }
+
+    /**
+     * Counts a newly generated chunk towards the speedrun worlds it was generated in.
+     *
+     * @param world the world the chunk was generated in
+     */
+    public void recordGeneratedChunk(World world) {
+        worldManager.recordGeneratedChunk(world);
+    }
+
+    /**
+     * Records a milestone reached by a speedrunner as a split of their run.
+     *
+     * @param speedrunner the speedrunner who reached the milestone
+     * @param milestone   the milestone reached
+     */
+    public void recordMilestone(Speedrunner speedrunner, Milestone milestone) {
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(speedrunner.getPlayer().getUniqueId());
+        if (participant != null) milestoneTracker.record(participant.getRun(), speedrunner, milestone);
+    }
+
+    /**
+     * Handles a player changing worlds, recording the milestones of moving between the worlds of a speedrun.
+     *
+     * @param player the player who changed worlds
+     * @param from   the world the player left
+     */
+    public void handleWorldChange(Player player, World from) {
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(player.getUniqueId());
+        if (participant == null) return;
+
+        milestoneTracker.onWorldChange(participant.getRun(), participant.getSpeedrunner(), from);
+    }
+
     /**
      * Handles player movement events.
      *
-     * <p>Freezes movement if the player is marked as frozen and updates AFK activity.</p>
+     * <p>Updates AFK activity and records the fortress milestone. Frozen players are held in place by the
+     * {@link PlayerFreezer} beforehand.</p>
      *
      * @param player the player who moved
      * @param event the {@link PlayerMoveEvent} triggered
      */
     public void handlePlayerMove(Player player, PlayerMoveEvent event) {
-        getSpeedrunner(player).ifPresent(runner -> {
-            if (runner.isFrozen()) {
-                event.setTo(event.getFrom());
-                event.setCancelled(true);
-            }
-            afkManager.updateActivity(player);
-        });
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(player.getUniqueId());
+        if (participant == null) return;
+
+        Speedrunner runner = participant.getSpeedrunner();
+        afkManager.updateMovement(player, event.getTo());
+        if (!runner.isFrozen()) {
+            milestoneTracker.onMove(participant.getRun(), runner, event.getFrom(), event.getTo());
+        }
     }
 
     /**
@@ -289,12 +477,13 @@ public class GameManager {
      * @param event the {@link PlayerInteractEvent} triggered
      */
     public void handlePlayerInteract(Player player, PlayerInteractEvent event) {
-        getSpeedrunner(player).ifPresent(runner -> {
-            if (runner.isFrozen()) {
-                event.setCancelled(true);
-            }
-            afkManager.updateActivity(player);
-        });
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(player.getUniqueId());
+        if (participant == null) return;
+
+        if (participant.getSpeedrunner().isFrozen()) {
+            event.setCancelled(true);
+        }
+        afkManager.updateActivity(player);
     }
 
     /**
@@ -304,6 +493,9 @@ public class GameManager {
      */
     public void handlePlayerQuit(Player player) {
         getActiveRun(player).ifPresent(run -> run.onPlayerLeave(player));
+        admissionController.leaveQueue(player);
+        requestBroker.cancelAll(player.getUniqueId());
+        coopManager.leaveCoop(player);
     }
 
     /**
@@ -314,11 +506,25 @@ public class GameManager {
      * @param event the {@link PlayerRespawnEvent} triggered
      */
     public void handlePlayerRespawn(PlayerRespawnEvent event) {
-        getSpeedrunner(event.getPlayer()).ifPresent(speedrunner ->
-                getActiveRun(event.getPlayer()).ifPresent(run ->
-                        run.onPlayerRespawn(speedrunner, event)
-                )
-        );
+        ActiveRunRegistry.Participant participant = runRegistry.getParticipant(event.getPlayer().getUniqueId());
+        if (participant == null) return;
+
+        participant.getRun().onPlayerRespawn(participant.getSpeedrunner(), event);
+    }
+
+    /* ==========================================================
+     *                   Run event handlers
+     * ========================================================== */
+    private void registerActiveRunListener() {
+        if (activeRunListenerRegistered) return;
+        Bukkit.getPluginManager().registerEvents(activeRunListener, plugin);
+        activeRunListenerRegistered = true;
+    }
+
+    private void unregisterActiveRunListener() {
+        if (!activeRunListenerRegistered) return;
+        HandlerList.unregisterAll(activeRunListener);
+        activeRunListenerRegistered = false;
     }
 
     /* ==========================================================
@@ -326,7 +532,6 @@ public class GameManager {
      * ========================================================== */
     private void startAfkMonitoring() {
         afkManager.startAfkChecker(
-                this::getAllPlayersInRuns,
                 player -> getActiveRun(player).ifPresent(run ->
                         abortRun(run, null, "AFK")
                 )
@@ -384,9 +589,78 @@ public class GameManager {
         sender.sendMessage(yellow + "/srp coop accept" + white + " - Accept a request to a coop speedrun");
         sender.sendMessage(yellow + "/srp coop decline" + white + " - Decline a request to coop speedrun");
         sender.sendMessage(yellow + "/srp coop stop" + white + " - Stop the coop speedrun");
+        sender.sendMessage("");
+        sender.sendMessage(yellow + "/srp timer <display>" + white + " - Show your timer in the sidebar, action bar " +
+                "or boss bar");
+        sender.sendMessage(yellow + "/srp top [page]" + white + " - Show the leaderboard");
+        sender.sendMessage(yellow + "/srp rank [player]" + white + " - Show the rank of a player's personal best");
         sender.sendMessage(green + "===========================");
     }
 
+    /**
+     * Send a page of the leaderboard to the given {@link CommandSender}.
+     *
+     * <p>Served from the latest leaderboard snapshot, so it may be called from any thread.</p>
+     *
+     * @param sender the recipient
+     * @param page   the one-based page
+     */
+    public void sendTopMessage(CommandSender sender, int page) {
+        LeaderboardSnapshot snapshot = leaderboardManager.getSnapshot();
+        int pages = snapshot.getPageCount(LEADERBOARD_PAGE_SIZE);
+        if (snapshot.size() == 0) {
+            sender.sendMessage(ChatColor.YELLOW + "Nobody has finished a speedrun yet!");
+            return;
+        }
+        if (page < 1 || page > pages) {
+            sender.sendMessage(ChatColor.RED + "The leaderboard only has " + pages + " page(s)!");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.GREEN + "===== Leaderboard (" + page + "/" + pages + ") =====");
+        int rank = (page - 1) * LEADERBOARD_PAGE_SIZE;
+        for (LeaderboardManager.RunEntry entry : snapshot.getPage(page, LEADERBOARD_PAGE_SIZE)) {
+            sender.sendMessage(ChatColor.GRAY + "#" + ++rank + " " + ChatColor.YELLOW + entry.playerName +
+                    ChatColor.WHITE + " - " + new TimeFormatter(entry.time).withHours().withSuffixes().format());
+        }
+    }
+
+    /**
+     * Send the rank and personal best of a player to the given {@link CommandSender}.
+     *
+     * <p>Served from the latest leaderboard snapshot, so it may be called from any thread.</p>
+     *
+     * @param sender the recipient
+     * @param target the player to rank
+     */
+    public void sendRankMessage(CommandSender sender, Player target) {
+        LeaderboardSnapshot snapshot = leaderboardManager.getSnapshot();
+        LeaderboardManager.RunEntry best = snapshot.getPersonalBest(target.getUniqueId());
+        if (best == null) {
+            sender.sendMessage(ChatColor.YELLOW + target.getName() + " has not finished a speedrun yet!");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.GREEN + target.getName() + " is ranked " + ChatColor.GRAY + "#" +
+                snapshot.getRank(target.getUniqueId()) + ChatColor.GREEN + " of " + snapshot.size() +
+                " with a time of " + ChatColor.WHITE +
+                new TimeFormatter(best.time).withHours().withSuffixes().format());
+        String splits = best.splits == null ? null : MilestoneTracker.formatSplits(best.splits);
+        if (splits != null) sender.sendMessage(ChatColor.GREEN + "Splits: " + splits);
+    }
+
+    /**
+     * Changes how the timer is displayed to a player.
+     *
+     * @param player the player
+     * @param type   the display to use from now on
+     */
+    public void setTimerDisplay(Player player, TimerDisplay.Type type) {
+        TimerUtil.setDisplayType(player, type);
+        player.sendMessage(ChatColor.GREEN + "Your timer is now displayed in the " + ChatColor.WHITE +
+                type.name().toLowerCase().replace('_', ' '));
+    }
+
     /**
      * Send an admin help message to the given {@link CommandSender}
      *
@@ -405,6 +679,146 @@ public class GameManager {
         sender.sendMessage(red + "/srp admin podium <load|unload>" + white + " - Load/Unload the podium");
         sender.sendMessage("");
         sender.sendMessage(red + "/srp admin seed <type> <amount>" + white + " - Add new filtered seeds");
+        sender.sendMessage("");
+        sender.sendMessage(red + "/srp admin stats" + white + " - Show performance statistics");
+        sender.sendMessage(red + "===========================");
+    }
+
+    /**
+     * Send the performance statistics to the given {@link CommandSender}
+     *
+     * @param sender the {@link CommandSender} to send the statistics
+     */
+    public void sendStatsMessage(CommandSender sender) {
+        ChatColor red = ChatColor.RED;
+        ChatColor yellow = ChatColor.YELLOW;
+        ChatColor white = ChatColor.WHITE;
+
+        WorldPool worldPool = worldManager.getWorldPool();
+
+        sender.sendMessage(red + "===== SpeedRunPlus Stats =====");
+        int capacity = admissionController.getCapacity();
+        sender.sendMessage(yellow + "Timer HUD" + white + " - ticks: " + hudTickDriver.getTicks().get() +
+                ", updates: " + hudTickDriver.getUpdates().get() +
+                String.format(", cost per tick: avg %.3fms, max %.3fms",
+                        hudTickDriver.getAverageTickMillis(), hudTickDriver.getMaxTickMillis()) +
+                ", sent: " + TimerUtil.getSentUpdates().get() +
+                ", unchanged: " + TimerUtil.getSkippedUpdates().get());
+        sender.sendMessage(yellow + "Tick stalls" + white + " - count: " + tickStallMonitor.getStalls().get() +
+                String.format(", total: %.1fs, max: %.1fms, recent avg: %.1fms",
+                        tickStallMonitor.getStalledNanos() / 1_000_000_000d,
+                        tickStallMonitor.getMaxStallMillis(), tickStallMonitor.getRecentAverageStallMillis()));
+        PlayerFreezer playerFreezer = PlayerFreezer.getINSTANCE();
+        sender.sendMessage(yellow + "Freezes" + white + " - count: " + playerFreezer.getFreezes().get() +
+                ", corrections: " + playerFreezer.getCorrections().get() +
+                String.format(" (avg %.2f per freeze, max %d)",
+                        playerFreezer.getAverageCorrectionsPerFreeze(), playerFreezer.getMaxCorrections()));
+        sender.sendMessage(yellow + "AFK" + white + " - tracked: " + afkManager.getTracked() +
+                ", expired deadlines: " + afkManager.getExpiredDeadlines().get() +
+                ", warnings: " + afkManager.getWarnings().get() +
+                ", timeouts: " + afkManager.getTimeouts().get() +
+                ", deferred: " + afkManager.getDeferredDeadlines().get() +
+                String.format(", sweep avg: %.3fms, max: %.3fms",
+                        afkManager.getAverageSweepMillis(), afkManager.getMaxSweepMillis()));
+        sender.sendMessage(yellow + "Leaderboard" + white + " - entries: " + leaderboardManager.size() +
+                ", journaled runs: " + leaderboardManager.getJournaledRuns() +
+                ", syncs: " + leaderboardManager.getJournalSyncs() +
+                ", compactions: " + leaderboardManager.getCompactions() +
+                ", failed writes: " + leaderboardManager.getJournalFailures() +
+                (leaderboardManager.isJournalFailing() ? ChatColor.RED + " (failing)" : ""));
+        sender.sendMessage(yellow + "Requests" + white + " - pending: " + requestBroker.getPending() +
+                ", opened: " + requestBroker.getOpened().get() +
+                ", accepted: " + requestBroker.getAccepted().get() +
+                ", declined: " + requestBroker.getDeclined().get() +
+                ", expired: " + requestBroker.getExpired().get() +
+                ", cancelled: " + requestBroker.getCancelled().get() +
+                ", waiting coops: " + coopManager.getPendingCoops());
+        sender.sendMessage(yellow + "Admission" + white + " - slots: " + admissionController.getUsedSlots() + "/" +
+                (capacity == Integer.MAX_VALUE ? "unlimited" : String.valueOf(capacity)) +
+                ", queued: " + admissionController.getQueueLength() +
+                ", admitted: " + admissionController.getAdmitted().get() +
+                ", ever queued: " + admissionController.getQueued().get() +
+                ", abandoned: " + admissionController.getAbandoned().get());
+        sender.sendMessage(yellow + "World pool" + white + " - ready: " + worldPool.size() +
+                ", hits: " + worldPool.getHits().get() +
+                ", misses: " + worldPool.getMisses().get());
+        sender.sendMessage(yellow + "World pool refills" + white + " - count: " + worldPool.getRefills().get() +
+                String.format(", avg: %.1fms, last: %.1fms",
+                        worldPool.getAverageRefillMillis(),
+                        worldPool.getLastRefillMillis()
+                ));
+
+        WorldCreationScheduler creationScheduler = worldManager.getCreationScheduler();
+        sender.sendMessage(yellow + "World creation" + white + " - queued: " +
+                creationScheduler.getQueuedSteps().get() + " worlds (" +
+                creationScheduler.getPendingRequests() + " requests)" +
+                ", created: " + creationScheduler.getCompletedSteps().get() +
+                ", failed: " + creationScheduler.getFailedRequests().get() +
+                String.format(", avg wait: %.1fms, max wait: %.1fms",
+                        creationScheduler.getAverageWaitMillis(),
+                        creationScheduler.getMaxWaitMillis()
+                ));
+
+        WorldCostTracker costTracker = worldManager.getCostTracker();
+        sender.sendMessage(yellow + "Run worlds" + white + " - loaded: " + costTracker.getTrackedWorlds() +
+                (costTracker.isSamplingSupported()
+                        ? String.format(", server tick: %.1fms", costTracker.getAverageTickTimeMillis())
+                        : ", not sampled (requires Paper)"));
+        for (World.Environment environment : List.of(
+                World.Environment.NORMAL,
+                World.Environment.NETHER,
+                World.Environment.THE_END
+        )) {
+            WorldCostTracker.Cost cost = costTracker.getCost(environment);
+            if (cost.getSamples() == 0) continue;
+            sender.sendMessage(yellow + "  " + environment.name().toLowerCase() + white + String.format(
+                    " - avg chunks: %.0f, entities: %.0f, tile entities: %.0f",
+                    cost.getAverageChunks(),
+                    cost.getAverageEntities(),
+                    cost.getAverageTileEntities()
+            ));
+        }
+
+        WorldDeletionPipeline deletionPipeline = worldManager.getDeletionPipeline();
+        sender.sendMessage(yellow + "World deletion" + white + " - pending: " +
+                deletionPipeline.getPendingTombstones().get() +
+                ", deleted: " + deletionPipeline.getDeletedTombstones().get() +
+                String.format(" (%.1fMB)", deletionPipeline.getDeletedBytes().get() / 1_048_576d));
+
+        WorldTemplateCache templateCache = worldManager.getTemplateCache();
+        sender.sendMessage(yellow + "World templates" + white + " - cached: " + templateCache.size() +
+                String.format(" (%.1fMB)", templateCache.getSizeBytes().get() / 1_048_576d) +
+                ", hits: " + templateCache.getHits().get() +
+                ", misses: " + templateCache.getMisses().get() +
+                ", evictions: " + templateCache.getEvictions().get());
+
+        // Chunks and disk space used by the worlds of each active run, largest first
+        List<WorldManager.WorldSet> worldSets = runRegistry.getAllRuns().stream()
+                .flatMap(run -> run.getSpeedrunners().stream())
+                .map(Speedrunner::getWorldSet)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<WorldManager.WorldSet, Long> regionBytes = new HashMap<>();
+        worldSets.forEach(worldSet -> regionBytes.put(worldSet, worldManager.getRegionBytes(worldSet)));
+        worldSets.sort(Comparator.comparing(regionBytes::get, Comparator.reverseOrder()));
+        sender.sendMessage(yellow + "Run world usage" + white + " - world sets: " + worldSets.size() +
+                ", generated chunks: " + worldSets.stream().mapToLong(ws -> ws.getGeneratedChunks().get()).sum() +
+                String.format(", region files: %.1fMB",
+                        regionBytes.values().stream().mapToLong(Long::longValue).sum() / 1_048_576d));
+        worldSets.stream().limit(STATS_MAX_WORLD_SETS).forEach(worldSet -> sender.sendMessage(
+                yellow + "  " + worldSet.getOverworld().getName() + white + String.format(
+                        " - generated chunks: %d, region files: %.1fMB",
+                        worldSet.getGeneratedChunks().get(),
+                        regionBytes.get(worldSet) / 1_048_576d
+                )
+        ));
+
+        TeleportService teleportService = worldManager.getTeleportService();
+        sender.sendMessage(yellow + "Teleports" + white + " - async: " + teleportService.getAsyncTeleports().get() +
+                String.format(" (avg %.1fms)", teleportService.getAverageAsyncMillis()) +
+                ", sync: " + teleportService.getSyncTeleports().get() +
+                ", failed: " + teleportService.getFailedTeleports().get());
         sender.sendMessage(red + "===========================");
     }
 }
@@ -0,0 +1,163 @@
+package com.fx.srp.managers;
+
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.model.player.Speedrunner;
+import com.fx.srp.model.run.Speedrun;
+import com.fx.srp.util.ui.TimerUtil;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the timer HUD of every running speedrun from a single task.
+ *
+ * <p>Runs are registered along with their players, resolved once. Every run is assigned to one tick of the refresh
+ * interval of each timer display and kept in a bucket per tick of that interval, so each timer is refreshed once
+ * per interval of its display while the updates of many runs are spread evenly across the ticks of that interval.
+ * Each tick, only the buckets due in that tick are walked. The players of a run using the same display are
+ * refreshed in the same tick and share the formatted time of its clock.</p>
+ *
+ * <p>The driver is only accessed from the main server thread, metrics may be read from any thread.</p>
+ */
+public class HudTickDriver {
+
+    private final SpeedRunPlus plugin;
+
+    private BukkitTask task;
+    private long tick;
+
+    // Registered runs, and per refresh interval the runs due in each tick of that interval
+    private final Map<Speedrun, List<Player>> runs = new IdentityHashMap<>();
+    private final Map<Integer, List<Speedrun>[]> buckets = new HashMap<>();
+
+    // Metrics
+    @Getter private final AtomicLong ticks = new AtomicLong();
+    @Getter private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong totalTickNanos = new AtomicLong();
+    private final AtomicLong maxTickNanos = new AtomicLong();
+
+    /**
+     * Constructs a new {@link HudTickDriver}.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public HudTickDriver(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts refreshing the timers, does nothing if already started.
+     */
+    public void start() {
+        if (task == null) task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops refreshing the timers.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Registers a run, whose timers are refreshed while it is running.
+     *
+     * @param run the run
+     */
+    public void register(Speedrun run) {
+        List<Player> players = run.getSpeedrunners().stream()
+                .map(Speedrunner::getPlayer)
+                .collect(Collectors.toList());
+        if (runs.put(run, players) != null) return;
+
+        buckets.forEach((refreshTicks, slots) -> slotOf(slots, run, refreshTicks).add(run));
+    }
+
+    /**
+     * Unregisters a run, e.g. once it is over.
+     *
+     * @param run the run
+     */
+    public void unregister(Speedrun run) {
+        if (runs.remove(run) == null) return;
+
+        buckets.forEach((refreshTicks, slots) -> slotOf(slots, run, refreshTicks).remove(run));
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the average time spent refreshing timers per tick.
+     *
+     * @return the average cost in milliseconds
+     */
+    public double getAverageTickMillis() {
+        long count = ticks.get();
+        return count == 0 ? 0 : totalTickNanos.get() / (double) count / 1_000_000d;
+    }
+
+    /**
+     * Returns the longest time spent refreshing timers in a single tick.
+     *
+     * @return the longest cost in milliseconds
+     */
+    public double getMaxTickMillis() {
+        return maxTickNanos.get() / 1_000_000d;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void tick() {
+        long start = System.nanoTime();
+        long currentTick = tick++;
+
+        for (int refreshTicks : TimerUtil.getRefreshIntervals()) {
+            // Only the runs assigned to this tick of the interval
+            List<Speedrun>[] slots = buckets.computeIfAbsent(refreshTicks, this::createBuckets);
+            for (Speedrun run : slots[(int) (currentTick % refreshTicks)]) {
+                if (run.getState() != Speedrun.State.RUNNING) continue;
+
+                // Formatted once per run, shared by all of its players using a display of this interval
+                String time = null;
+                for (Player player : runs.get(run)) {
+                    if (TimerUtil.getRefreshTicks(player) != refreshTicks) continue;
+                    if (time == null) time = TimerUtil.format(run.getClock());
+                    TimerUtil.updateTimer(player, time);
+                    updates.incrementAndGet();
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        ticks.incrementAndGet();
+        totalTickNanos.addAndGet(elapsed);
+        maxTickNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    // Buckets for a refresh interval not seen before, e.g. after the config was reloaded
+    @SuppressWarnings("unchecked")
+    private List<Speedrun>[] createBuckets(int refreshTicks) {
+        List<Speedrun>[] slots = new List[refreshTicks];
+        for (int i = 0; i < refreshTicks; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        runs.keySet().forEach(run -> slotOf(slots, run, refreshTicks).add(run));
+        return slots;
+    }
+
+    private static List<Speedrun> slotOf(List<Speedrun>[] slots, Speedrun run, int refreshTicks) {
+        return slots[Math.floorMod(System.identityHashCode(run), refreshTicks)];
+    }
+}
@@ -9,8 +9,8 @@ import com.fx.srp.model.run.BattleSpeedrun;
 import com.fx.srp.model.run.TeamBattleSpeedrun;
 import com.fx.srp.util.time.TimeFormatter;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.NonNull;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -39,7 +39,7 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
      * @param worldManager the {@link WorldManager} for creating and deleting worlds
      */
     public BattleManager(SpeedRunPlus plugin, GameManager gameManager, WorldManager worldManager) {
-        super(plugin, gameManager, worldManager);
+        super(plugin, gameManager, worldManager, GameMode.BATTLE);
     }
 
     /* ==========================================================
@@ -48,7 +48,7 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
     /**
      * Accepts a pending battle request and starts a {@link BattleSpeedrun}.
      *
-     * <p>Sets up a shared {@link StopWatch}, captures player states, and more.</p>
+     * <p>Sets up a shared {@link RunClock}, captures player states, and more.</p>
      *
      * @param challengee the player accepting the request
      */
@@ -75,91 +75,100 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
             Player challengerTeamMate = challengerMate.get();
             Player challengeeTeamMate = challengeeMate.get();
 
-            StopWatch stopWatch = new StopWatch();
+            gameManager.admitRun(
+                    List.of(challenger, challengerTeamMate, challengee, challengeeTeamMate),
+                    () -> launchTeamBattle(challenger, challengerTeamMate, challengee, challengeeTeamMate)
+            );
+            return;
+        }
+
+        // === FALLBACK to 1v1 ===
+        gameManager.admitRun(List.of(challenger, challengee), () -> launchBattle(challenger, challengee));
+    }
+
+    private void launchTeamBattle(
+            Player challenger,
+            Player challengerTeamMate,
+            Player challengee,
+            Player challengeeTeamMate
+    ) {
+        RunClock clock = new RunClock();
+
+        Speedrunner challengerSpeedrunner = new Speedrunner(challenger, clock);
+        Speedrunner challengerMateRunner = new Speedrunner(challengerTeamMate, clock);
+        Speedrunner challengeeSpeedrunner = new Speedrunner(challengee, clock);
+        Speedrunner challengeeMateRunner = new Speedrunner(challengeeTeamMate, clock);
+
+        // Capture states
+        challengerSpeedrunner.captureState();
+        challengerMateRunner.captureState();
+        challengeeSpeedrunner.captureState();
+        challengeeMateRunner.captureState();
+
+        TeamBattleSpeedrun teamRun = new TeamBattleSpeedrun(
+                GameMode.BATTLE,
+                challengerSpeedrunner,
+                challengerMateRunner,
+                challengeeSpeedrunner,
+                challengeeMateRunner,
+                clock,
+                null
+        );
 
-            Speedrunner challengerSpeedrunner = new Speedrunner(challenger, stopWatch);
-            Speedrunner challengerMateRunner = new Speedrunner(challengerTeamMate, stopWatch);
-            Speedrunner challengeeSpeedrunner = new Speedrunner(challengee, stopWatch);
-            Speedrunner challengeeMateRunner = new Speedrunner(challengeeTeamMate, stopWatch);
+        gameManager.registerRun(teamRun);
+        initializeRun((Speedrun) teamRun);
 
-            // Capture states
-            challengerSpeedrunner.captureState();
-            challengerMateRunner.captureState();
-            challengeeSpeedrunner.captureState();
-            challengeeMateRunner.captureState();
+        challenger.sendMessage(ChatColor.YELLOW + "Creating the world for your team...");
+        challengee.sendMessage(ChatColor.YELLOW + "Creating the world for your team...");
 
-            TeamBattleSpeedrun teamRun = new TeamBattleSpeedrun(
-                    GameMode.BATTLE,
+        // Create two world-sets: one for each team. Use the team leaders as representatives.
+        worldManager.createWorldsForPlayers(List.of(challenger, challengee), null, (sets, seedType) -> {
+             WorldManager.WorldSet challengerWorldSet = sets.get(challenger.getUniqueId());
+             WorldManager.WorldSet challengeeWorldSet = sets.get(challengee.getUniqueId());
+
+             // Assign same world set to teammates on each team and set shared seed
+             challengerSpeedrunner.setWorldSet(challengerWorldSet);
+             challengerMateRunner.setWorldSet(challengerWorldSet);
+             challengeeSpeedrunner.setWorldSet(challengeeWorldSet);
+             challengeeMateRunner.setWorldSet(challengeeWorldSet);
+             // Assign seed from the team's overworld via the spawn world's seed
+             long seedLong = challengerWorldSet.getSpawn().getWorld().getSeed();
+             teamRun.setSeed(Long.valueOf(seedLong));
+
+            // Inform all players about the seed type
+            String raw = seedType.name().toLowerCase().replace('_', ' ');
+            String pretty = raw.substring(0,1).toUpperCase() + raw.substring(1);
+            challenger.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            challengerTeamMate.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            challengee.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            challengeeTeamMate.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+
+             // Freeze all
+             challengerSpeedrunner.freeze();
+             challengerMateRunner.freeze();
+             challengeeSpeedrunner.freeze();
+             challengeeMateRunner.freeze();
+
+            List<Speedrunner> speedrunners = List.of(
                     challengerSpeedrunner,
                     challengerMateRunner,
                     challengeeSpeedrunner,
-                    challengeeMateRunner,
-                    stopWatch,
-                    null
+                    challengeeMateRunner
             );
 
-            gameManager.registerRun(teamRun);
-            initializeRun((Speedrun) teamRun);
-
-            challenger.sendMessage(ChatColor.YELLOW + "Creating the world for your team...");
-            challengee.sendMessage(ChatColor.YELLOW + "Creating the world for your team...");
-
-            // Create two world-sets: one for each team. Use the team leaders as representatives.
-            worldManager.createWorldsForPlayers(List.of(challenger, challengee), null, (sets, seedType) -> {
-                 WorldManager.WorldSet challengerWorldSet = sets.get(challenger.getUniqueId());
-                 WorldManager.WorldSet challengeeWorldSet = sets.get(challengee.getUniqueId());
-
-                 // Assign same world set to teammates on each team and set shared seed
-                 challengerSpeedrunner.setWorldSet(challengerWorldSet);
-                 challengerMateRunner.setWorldSet(challengerWorldSet);
-                 challengeeSpeedrunner.setWorldSet(challengeeWorldSet);
-                 challengeeMateRunner.setWorldSet(challengeeWorldSet);
-                 // Assign seed from the team's overworld via the spawn world's seed
-                 long seedLong = challengerWorldSet.getSpawn().getWorld().getSeed();
-                 teamRun.setSeed(Long.valueOf(seedLong));
-
-                // Inform all players about the seed type
-                String raw = seedType.name().toLowerCase().replace('_', ' ');
-                String pretty = raw.substring(0,1).toUpperCase() + raw.substring(1);
-                challenger.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                challengerTeamMate.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                challengee.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                challengeeTeamMate.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-
-                 // Freeze all
-                 challengerSpeedrunner.freeze();
-                 challengerMateRunner.freeze();
-                 challengeeSpeedrunner.freeze();
-                 challengeeMateRunner.freeze();
-
-                 // Teleport
-                 challenger.teleport(challengerSpeedrunner.getWorldSet().getSpawn());
-                 challengerTeamMate.teleport(challengerMateRunner.getWorldSet().getSpawn());
-                 challengee.teleport(challengeeSpeedrunner.getWorldSet().getSpawn());
-                 challengeeTeamMate.teleport(challengeeMateRunner.getWorldSet().getSpawn());
-
-                 // Reset states
-                 challengerSpeedrunner.resetState();
-                 challengerMateRunner.resetState();
-                 challengeeSpeedrunner.resetState();
-                 challengeeMateRunner.resetState();
-
-                startCountdown((Speedrun) teamRun, List.of(
-                        challengerSpeedrunner,
-                        challengerMateRunner,
-                        challengeeSpeedrunner,
-                        challengeeMateRunner
-                ));
+            // Teleport, once everyone arrived reset states
+            teleportToSpawns(speedrunners, () -> {
+                speedrunners.forEach(Speedrunner::resetState);
+                startCountdown((Speedrun) teamRun, speedrunners);
             });
+        }, () -> abortWorldCreation(teamRun));
+    }
 
-            return;
-        }
-
-        // === FALLBACK to 1v1 ===
-        // Setup stopwatch
-        StopWatch stopWatch = new StopWatch();
-        Speedrunner challengerSpeedrunner = new Speedrunner(challenger, stopWatch);
-        Speedrunner challengeeSpeedrunner = new Speedrunner(challengee, stopWatch);
+    private void launchBattle(Player challenger, Player challengee) {
+        // Setup clock
+        RunClock clock = new RunClock();
+        Speedrunner challengerSpeedrunner = new Speedrunner(challenger, clock);
+        Speedrunner challengeeSpeedrunner = new Speedrunner(challengee, clock);
 
         // Capture the players' state - their inventory, levels, etc.
         challengerSpeedrunner.captureState();
@@ -169,7 +178,7 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
                 GameMode.BATTLE,
                 challengerSpeedrunner,
                 challengeeSpeedrunner,
-                stopWatch,
+                clock,
                 null
         );
         gameManager.registerRun(battleSpeedrun);
@@ -199,16 +208,13 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
              challengerSpeedrunner.freeze();
              challengeeSpeedrunner.freeze();
 
-             // Teleport players
-             challenger.teleport(challengerSpeedrunner.getWorldSet().getSpawn());
-             challengee.teleport(challengeeSpeedrunner.getWorldSet().getSpawn());
-
-             // Reset players' state (health, hunger, inventory, etc.)
-             challengerSpeedrunner.resetState();
-             challengeeSpeedrunner.resetState();
-
-             startCountdown((Speedrun) battleSpeedrun, List.of(challengerSpeedrunner, challengeeSpeedrunner));
-         });
+             // Teleport players, once both arrived reset their state (health, hunger, inventory, etc.)
+             List<Speedrunner> speedrunners = List.of(challengerSpeedrunner, challengeeSpeedrunner);
+             teleportToSpawns(speedrunners, () -> {
+                 speedrunners.forEach(Speedrunner::resetState);
+                 startCountdown((Speedrun) battleSpeedrun, speedrunners);
+             });
+         }, () -> abortWorldCreation(battleSpeedrun));
     }
 
     /* ==========================================================
@@ -272,7 +278,7 @@ public class BattleManager extends MultiplayerGameModeManager<Speedrun> {
         run.setState(Speedrun.State.FINISHED);
 
         // Get the final time
-        String formattedTime = new TimeFormatter(run.getStopWatch())
+        String formattedTime = new TimeFormatter(run.getClock())
                 .withHours()
                 .withSuperscriptMs()
                 .format();
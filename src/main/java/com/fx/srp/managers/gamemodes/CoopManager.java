@@ -2,6 +2,7 @@ package com.fx.srp.managers.gamemodes;
 
 import com.fx.srp.SpeedRunPlus;
 import com.fx.srp.managers.GameManager;
+import com.fx.srp.managers.util.RequestBroker;
 import com.fx.srp.managers.util.WorldManager;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.model.requests.PendingRequest;
@@ -10,13 +11,16 @@ import com.fx.srp.model.run.CoopSpeedrun;
 import com.fx.srp.model.run.TeamBattleSpeedrun;
 import com.fx.srp.util.time.TimeFormatter;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.NonNull;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Manager responsible for handling all aspects of the Coop game mode (cooperative speedruns).
@@ -24,17 +28,20 @@ import java.util.Optional;
  * <p>Responsibilities include:</p>
  * <ul>
  *     <li>Tracking pending coop requests and enforcing timeouts</li>
+ *     <li>Tracking accepted coops waiting for a duel, reaping them once they waited too long or a member left</li>
  *     <li>Starting and stopping {@link CoopSpeedrun} instances</li>
  * </ul>
  */
 public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
 
-    // Track coops that have accepted an invite but haven't had worlds created yet
-    private final java.util.Map<java.util.UUID, CoopGroup> pendingCoops = new java.util.concurrent.ConcurrentHashMap<>();
+    // Track coops that have accepted an invite but haven't had worlds created yet, by leader and by member
+    private final Map<UUID, CoopGroup> pendingCoops = new HashMap<>();
+    private final Map<UUID, CoopGroup> pendingCoopsByMember = new HashMap<>();
 
     private static class CoopGroup {
         final Player leader;
         final Player partner;
+        RequestBroker.Expiry expiry;
 
         CoopGroup(Player leader, Player partner) {
             this.leader = leader;
@@ -46,7 +53,7 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
      * Constructs a new CoopManager.
      */
     public CoopManager(SpeedRunPlus plugin, GameManager gameManager, WorldManager worldManager) {
-        super(plugin, gameManager, worldManager);
+        super(plugin, gameManager, worldManager, GameMode.COOP);
     }
 
     /* ==========================================================
@@ -86,88 +93,21 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
                 return;
             }
 
-            // Build Speedrunner objects for all four players (2v2: leader+partner vs leader+partner)
-            StopWatch stopWatch = new StopWatch();
-
-            Speedrunner cLeaderRunner = new Speedrunner(challengerGroup.leader, stopWatch);
-            Speedrunner cPartnerRunner = new Speedrunner(challengerGroup.partner, stopWatch);
-            Speedrunner aLeaderRunner = new Speedrunner(accepterGroup.leader, stopWatch);
-            Speedrunner aPartnerRunner = new Speedrunner(accepterGroup.partner, stopWatch);
-
-            // Capture states
-            cLeaderRunner.captureState();
-            cPartnerRunner.captureState();
-            aLeaderRunner.captureState();
-            aPartnerRunner.captureState();
-
-            // Create the TeamBattleSpeedrun
-            TeamBattleSpeedrun teamRun = new TeamBattleSpeedrun(
-                    GameMode.BATTLE,
-                    cLeaderRunner,
-                    cPartnerRunner,
-                    aLeaderRunner,
-                    aPartnerRunner,
-                    stopWatch,
-                    null
+            boolean admitted = gameManager.admitRun(
+                    List.of(
+                            challengerGroup.leader,
+                            challengerGroup.partner,
+                            accepterGroup.leader,
+                            accepterGroup.partner
+                    ),
+                    () -> launchDuel(challengerGroup, accepterGroup)
             );
 
-            gameManager.registerRun(teamRun);
-            // Initialize run (raw type dispatch to avoid generic mismatch)
-            ((GameModeManager) this).initializeRun(teamRun);
-
-            // Inform players
-            challengerGroup.leader.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
-            challengerGroup.partner.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
-            accepterGroup.leader.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
-            accepterGroup.partner.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
-
-            // Create worlds for each team leader (each leader gets their own world set)
-            worldManager.createWorldsForPlayers(java.util.List.of(challengerGroup.leader, accepterGroup.leader), null, (sets, seedType) -> {
-                WorldManager.WorldSet challengerWorldSet = sets.get(challengerGroup.leader.getUniqueId());
-                WorldManager.WorldSet accepterWorldSet = sets.get(accepterGroup.leader.getUniqueId());
-
-                cLeaderRunner.setWorldSet(challengerWorldSet);
-                cPartnerRunner.setWorldSet(challengerWorldSet);
-                aLeaderRunner.setWorldSet(accepterWorldSet);
-                aPartnerRunner.setWorldSet(accepterWorldSet);
-
-                long seedLong = challengerWorldSet.getSpawn().getWorld().getSeed();
-                teamRun.setSeed(seedLong);
-
-                // Inform all players about the seed type
-                String raw = seedType.name().toLowerCase().replace('_', ' ');
-                String pretty = raw.substring(0, 1).toUpperCase() + raw.substring(1);
-                challengerGroup.leader.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                challengerGroup.partner.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                accepterGroup.leader.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-                accepterGroup.partner.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
-
-                // Freeze all
-                cLeaderRunner.freeze();
-                cPartnerRunner.freeze();
-                aLeaderRunner.freeze();
-                aPartnerRunner.freeze();
-
-                // Teleport all
-                challengerGroup.leader.teleport(cLeaderRunner.getWorldSet().getSpawn());
-                challengerGroup.partner.teleport(cPartnerRunner.getWorldSet().getSpawn());
-                accepterGroup.leader.teleport(aLeaderRunner.getWorldSet().getSpawn());
-                accepterGroup.partner.teleport(aPartnerRunner.getWorldSet().getSpawn());
-
-                // Reset states
-                cLeaderRunner.resetState();
-                cPartnerRunner.resetState();
-                aLeaderRunner.resetState();
-                aPartnerRunner.resetState();
-
-                // Start countdown for the team battle run
-                ((GameModeManager) this).startCountdown(teamRun, List.of(cLeaderRunner, cPartnerRunner, aLeaderRunner, aPartnerRunner));
-            });
-
-            // Remove pending coop entries now that worlds/runs are created
-            pendingCoops.remove(challengerGroup.leader.getUniqueId());
-            pendingCoops.remove(accepterGroup.leader.getUniqueId());
-
+            // The coops no longer wait for a duel, so they do not expire while the duel is queued
+            if (admitted) {
+                removePendingCoop(challengerGroup);
+                removePendingCoop(accepterGroup);
+            }
             return;
         }
 
@@ -178,8 +118,8 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
             return;
         }
 
-        // Store the pending coop pairing
-        pendingCoops.put(leader.getUniqueId(), new CoopGroup(leader, partner));
+        // Store the pending coop pairing, until it waited too long for a duel
+        addPendingCoop(new CoopGroup(leader, partner));
 
         leader.sendMessage(ChatColor.GREEN + partner.getName() + " has accepted your coop invite. Your coop is ready and waiting for a duel.");
         partner.sendMessage(ChatColor.GREEN + "You have joined " + leader.getName() + "'s coop. Awaiting a duel to create worlds and begin.");
@@ -187,6 +127,80 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
         partner.sendMessage(ChatColor.YELLOW + "Use /srp coop duel <leader> to challenge another coop when you're ready.");
     }
 
+    private void launchDuel(CoopGroup challengerGroup, CoopGroup accepterGroup) {
+        // Build Speedrunner objects for all four players (2v2: leader+partner vs leader+partner)
+        RunClock clock = new RunClock();
+
+        Speedrunner cLeaderRunner = new Speedrunner(challengerGroup.leader, clock);
+        Speedrunner cPartnerRunner = new Speedrunner(challengerGroup.partner, clock);
+        Speedrunner aLeaderRunner = new Speedrunner(accepterGroup.leader, clock);
+        Speedrunner aPartnerRunner = new Speedrunner(accepterGroup.partner, clock);
+
+        // Capture states
+        cLeaderRunner.captureState();
+        cPartnerRunner.captureState();
+        aLeaderRunner.captureState();
+        aPartnerRunner.captureState();
+
+        // Create the TeamBattleSpeedrun
+        TeamBattleSpeedrun teamRun = new TeamBattleSpeedrun(
+                GameMode.BATTLE,
+                cLeaderRunner,
+                cPartnerRunner,
+                aLeaderRunner,
+                aPartnerRunner,
+                clock,
+                null
+        );
+
+        gameManager.registerRun(teamRun);
+        // Initialize run (raw type dispatch to avoid generic mismatch)
+        ((GameModeManager) this).initializeRun(teamRun);
+
+        // Inform players
+        challengerGroup.leader.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
+        challengerGroup.partner.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
+        accepterGroup.leader.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
+        accepterGroup.partner.sendMessage(ChatColor.YELLOW + "Creating the worlds for your teams...");
+
+        // Create worlds for each team leader (each leader gets their own world set)
+        worldManager.createWorldsForPlayers(java.util.List.of(challengerGroup.leader, accepterGroup.leader), null, (sets, seedType) -> {
+            WorldManager.WorldSet challengerWorldSet = sets.get(challengerGroup.leader.getUniqueId());
+            WorldManager.WorldSet accepterWorldSet = sets.get(accepterGroup.leader.getUniqueId());
+
+            cLeaderRunner.setWorldSet(challengerWorldSet);
+            cPartnerRunner.setWorldSet(challengerWorldSet);
+            aLeaderRunner.setWorldSet(accepterWorldSet);
+            aPartnerRunner.setWorldSet(accepterWorldSet);
+
+            long seedLong = challengerWorldSet.getSpawn().getWorld().getSeed();
+            teamRun.setSeed(seedLong);
+
+            // Inform all players about the seed type
+            String raw = seedType.name().toLowerCase().replace('_', ' ');
+            String pretty = raw.substring(0, 1).toUpperCase() + raw.substring(1);
+            challengerGroup.leader.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            challengerGroup.partner.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            accepterGroup.leader.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+            accepterGroup.partner.sendMessage(ChatColor.AQUA + "Seed type: " + ChatColor.WHITE + pretty);
+
+            // Freeze all
+            cLeaderRunner.freeze();
+            cPartnerRunner.freeze();
+            aLeaderRunner.freeze();
+            aPartnerRunner.freeze();
+
+            // Teleport all, once everyone arrived reset states
+            List<Speedrunner> speedrunners = List.of(cLeaderRunner, cPartnerRunner, aLeaderRunner, aPartnerRunner);
+            teleportToSpawns(speedrunners, () -> {
+                speedrunners.forEach(Speedrunner::resetState);
+
+                // Start countdown for the team battle run
+                ((GameModeManager) this).startCountdown(teamRun, speedrunners);
+            });
+        }, () -> abortWorldCreation(teamRun));
+    }
+
     /* ==========================================================
      *                       RESET COOP
      * ========================================================== */
@@ -233,7 +247,7 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
         Player partner = coopSpeedrun.getPartner().getPlayer();
 
         // Get the final time
-        String formattedTime = new TimeFormatter(coopSpeedrun.getStopWatch())
+        String formattedTime = new TimeFormatter(coopSpeedrun.getClock())
                 .withHours()
                 .withSuperscriptMs()
                 .format();
@@ -287,11 +301,11 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
         }
 
         // Create a duel pending request with timeout similar to MultiplayerGameModeManager.request
-        java.util.UUID senderUUID = sender.getUniqueId();
-        java.util.UUID targetUUID = targetLeader.getUniqueId();
+        UUID senderUUID = sender.getUniqueId();
+        UUID targetUUID = targetLeader.getUniqueId();
 
         // target already has a pending request
-        if (pendingRequests.containsKey(targetUUID)) {
+        if (requestBroker.getRequestTo(targetUUID) != null) {
             sender.sendMessage(
                     ChatColor.GRAY + targetLeader.getName() + " " +
                     ChatColor.YELLOW + " already has a pending request!"
@@ -299,19 +313,46 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
             return;
         }
 
-        PendingRequest request = new PendingRequest(senderUUID, false, true);
-        pendingRequests.put(targetUUID, request);
+        // sender has already requested within threshold
+        if (requestBroker.hasRequestBy(senderUUID)) {
+            sender.sendMessage(ChatColor.YELLOW + " You've already sent a request! Please wait.");
+            return;
+        }
+
+        PendingRequest request = new PendingRequest(senderUUID, targetUUID, GameMode.COOP, false, true);
 
         sender.sendMessage(ChatColor.GREEN + "You have challenged " + targetLeader.getName() + "'s coop to a duel.");
         targetLeader.sendMessage(ChatColor.YELLOW + sender.getName() + " has challenged your coop to a duel! Type /srp coop accept to accept the challenge.");
 
-        int taskId = org.bukkit.Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            pendingRequests.remove(targetUUID);
+        requestBroker.open(request, configHandler.getMaxRequestTime(), () -> {
             sender.sendMessage(ChatColor.YELLOW + "Your duel request to " + ChatColor.GRAY + targetLeader.getName() + ChatColor.YELLOW + " has expired!");
             targetLeader.sendMessage(ChatColor.YELLOW + "The duel request has expired.");
-        }, configHandler.getMaxRequestTime() / 50L).getTaskId();
+        });
+    }
+
+    /**
+     * Dissolves the accepted coop of a player waiting for a duel, e.g. when they leave.
+     *
+     * <p>Does nothing if the player is not in a pending coop.</p>
+     *
+     * @param player the player leaving their coop
+     */
+    public void leaveCoop(Player player) {
+        CoopGroup group = pendingCoopsByMember.get(player.getUniqueId());
+        if (group == null) return;
 
-        request.setTimeoutTaskId(taskId);
+        removePendingCoop(group);
+        Player other = group.leader.equals(player) ? group.partner : group.leader;
+        other.sendMessage(ChatColor.YELLOW + player.getName() + " has left your coop, it has been dissolved.");
+    }
+
+    /**
+     * Returns the number of accepted coops waiting for a duel.
+     *
+     * @return the number of pending coops
+     */
+    public int getPendingCoops() {
+        return pendingCoops.size();
     }
 
     // Placeholder method to check if a player is in a coop (active run or pending)
@@ -319,7 +360,7 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
         // Check active runs
         if (gameManager.isInRun(player)) return true;
         // Check pending coop groups
-        return pendingCoops.containsKey(player.getUniqueId()) || pendingCoops.values().stream().anyMatch(g -> g.partner.equals(player));
+        return pendingCoopsByMember.containsKey(player.getUniqueId());
     }
 
     // Placeholder method to check if a player is a coop leader
@@ -327,4 +368,26 @@ public class CoopManager extends MultiplayerGameModeManager<CoopSpeedrun> {
         // Leader is the player who created the pending coop group
         return pendingCoops.containsKey(player.getUniqueId());
     }
+
+    private void addPendingCoop(CoopGroup group) {
+        // A player is only in a single pending coop
+        leaveCoop(group.leader);
+        leaveCoop(group.partner);
+
+        pendingCoops.put(group.leader.getUniqueId(), group);
+        pendingCoopsByMember.put(group.leader.getUniqueId(), group);
+        pendingCoopsByMember.put(group.partner.getUniqueId(), group);
+        group.expiry = requestBroker.schedule(configHandler.getMaxCoopWaitTime(), () -> {
+            removePendingCoop(group);
+            group.leader.sendMessage(ChatColor.YELLOW + "Your coop has waited too long for a duel and was dissolved.");
+            group.partner.sendMessage(ChatColor.YELLOW + "Your coop has waited too long for a duel and was dissolved.");
+        });
+    }
+
+    private void removePendingCoop(CoopGroup group) {
+        pendingCoops.remove(group.leader.getUniqueId(), group);
+        pendingCoopsByMember.remove(group.leader.getUniqueId(), group);
+        pendingCoopsByMember.remove(group.partner.getUniqueId(), group);
+        if (group.expiry != null) group.expiry.cancel();
+    }
 }
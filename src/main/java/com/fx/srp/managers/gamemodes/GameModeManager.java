@@ -9,18 +9,25 @@ import com.fx.srp.model.run.Speedrun;
 import com.fx.srp.util.ui.TimerUtil;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.util.Consumer;
 import com.fx.srp.model.seed.SeedCategory;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Abstract base class for managing game mode logic in SRP.
@@ -28,10 +35,10 @@ import java.util.UUID;
  * <p>This class provides common functionality for all game modes, such as:
  * <ul>
  *     <li>Run initialization and state management</li>
- *     <li>Countdown timers before starting runs</li>
+ *     <li>Spawn chunk pre-generation and countdown timers before starting runs</li>
  *     <li>World creation and reset for players</li>
  *     <li>Run finishing and cleanup</li>
- *     <li>Scheduling repeated tick updates and run timeouts</li>
+ *     <li>Scheduling run timeouts</li>
  * </ul>
  * </p>
  *
@@ -78,15 +85,33 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
     /**
      * Starts a countdown before a run begins.
      *
-     * <p>After a short delay, the run will transition to the running state,
-     * the stopwatch will start, and players will be un-frozen.</p>
+     * <p>The run first enters {@link Speedrun.State#PREGENERATING}, in which the chunks around each spawn
+     * are loaded asynchronously while the players are shown the progress. Once every chunk is ready,
+     * the countdown starts, after which the run will transition to the running state, the clock
+     * will start, and players will be un-frozen.</p>
      *
      * @param run the run to start
      * @param players the collection of {@link Speedrunner}s participating
      */
     protected void startCountdown(T run, Collection<Speedrunner> players) {
-        // Delay slightly to let the world load
-        Bukkit.getScheduler().runTaskLater(plugin, () -> start(run, players), 20L);
+        run.setState(Speedrun.State.PREGENERATING);
+
+        // Distinct world sets (teammates share a set)
+        Set<WorldManager.WorldSet> worldSets = players.stream()
+                .map(Speedrunner::getWorldSet)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        worldManager.pregenerateSpawns(
+                worldSets,
+                () -> run.getState() != Speedrun.State.PREGENERATING ||
+                        players.stream().anyMatch(p -> !p.getPlayer().isOnline()),
+                progress -> players.forEach(p -> p.getPlayer().spigot().sendMessage(
+                        ChatMessageType.ACTION_BAR,
+                        TextComponent.fromLegacyText(ChatColor.YELLOW + "Preparing the world... " + progress + "%")
+                )),
+                () -> start(run, players)
+        );
     }
 
     private void start(T run, Collection<Speedrunner> players) {
@@ -118,9 +143,8 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
                     return;
                 }
 
-                // Start stopwatch
-                run.getStopWatch().reset();
-                run.getStopWatch().start();
+                // Start clock
+                run.getClock().start();
 
                 // === START ===
                 // Start text (title) and unfreeze
@@ -130,13 +154,7 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
                     p.unfreeze();
                 });
 
-                // Begin timer HUD
-                scheduleRepeatingTickTask(
-                        run,
-                        r -> players.forEach(p -> TimerUtil.updateTimer(p.getPlayer(), r.getStopWatch()))
-                );
-
-                // Update speedrun state
+                // Update speedrun state, the timer HUD is refreshed by the HudTickDriver from now on
                 run.setState(Speedrun.State.RUNNING);
 
                 // Schedule timeout
@@ -182,27 +200,38 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
             WorldManager.WorldSet newWorldSet = sets.get(uuid);
 
              Bukkit.getScheduler().runTask(plugin, () -> {
-                 // Teleport- and reset state of player
-                 player.teleport(newWorldSet.getSpawn());
-                 speedrunner.resetState();
-
-                 // Unfreeze player & display title
-                 speedrunner.unfreeze();
-                 player.sendTitle(ChatColor.GREEN + "GO!", "", 0, 40, 20);
-                 Bukkit.getScheduler().runTaskLater(plugin, player::resetTitle, 40L);
-
-                 TimerUtil.createTimer(List.of(player), speedrunner.getStopWatch());
-
-                 // Delete old worlds
-                 worldManager.deleteWorldsForPlayers(List.of(speedrunner), () -> {
-                     // Assign new worlds
-                     speedrunner.setWorldSet(newWorldSet);
-
-                     // Callback
-                     afterWorldDeletion.run();
-                 });
+                 // Teleport player
+                 worldManager.getTeleportService().teleport(player, newWorldSet.getSpawn()).thenRun(() -> {
+                     // Reset state of player once arrived
+                     speedrunner.resetState();
+
+                     // Unfreeze player & display title
+                     speedrunner.unfreeze();
+                     player.sendTitle(ChatColor.GREEN + "GO!", "", 0, 40, 20);
+                     Bukkit.getScheduler().runTaskLater(plugin, player::resetTitle, 40L);
+
+                     TimerUtil.createTimer(List.of(player), speedrunner.getClock());
+
+                     // Delete old worlds
+                     worldManager.deleteWorldsForPlayers(List.of(speedrunner), () -> {
+                         // Assign new worlds
+                         speedrunner.setWorldSet(newWorldSet);
+
+                         // Callback
+                         afterWorldDeletion.run();
+                     });
+                 }).exceptionally(e -> logFailure("Reset", e));
              });
-         });
+         }, () -> gameManager.getActiveRun(player).ifPresent(this::abortWorldCreation));
+    }
+
+    /**
+     * Aborts a run whose worlds could not be created, the worlds created so far have already been deleted.
+     *
+     * @param run the run to abort
+     */
+    protected void abortWorldCreation(Speedrun run) {
+        gameManager.abortRun(run, null, "The worlds could not be created");
     }
 
     /* ==========================================================
@@ -211,32 +240,41 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
     /**
      * Finishes a run, performing cleanup tasks including:
      * <ul>
-     *     <li>Stopping the stopwatch and canceling scheduled tasks</li>
+     *     <li>Stopping the clock and canceling scheduled tasks</li>
      *     <li>Freezing and restoring player states</li>
      *     <li>Deleting worlds via {@link WorldManager}</li>
-     *     <li>Unregistering the run from {@link GameManager}</li>
+     *     <li>Unregistering the run from {@link GameManager}, once its speedrunners are unfrozen</li>
+     *     <li>Releasing the admission slots of the run, once its worlds are deleted</li>
      * </ul>
      *
+     * <p>Does nothing if the run is already being cleaned up, e.g. when a speedrunner leaves meanwhile.</p>
+     *
      * @param run the run to finish
      */
     protected void finishRun(Speedrun run, int delayTicks) {
+        if (run.getState() == Speedrun.State.CLEANING) return;
         run.setState(Speedrun.State.FINISHED);
 
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            // Perform cleanup
-            cleanupAfterRun(run, () ->
-                    worldManager.deleteWorldsForPlayers(run.getSpeedrunners(), () -> {})
+            if (run.getState() == Speedrun.State.CLEANING) return;
+
+            // Perform cleanup, the slots of the run are only freed once its worlds are gone, and the run is only
+            // removed from the global speedrun registry once its speedrunners are no longer frozen, as the run
+            // event handlers holding them in place are detached along with the last run
+            cleanupAfterRun(
+                    run,
+                    () -> worldManager.deleteWorldsForPlayers(
+                            run.getSpeedrunners(),
+                            () -> gameManager.releaseSlots(run)
+                    ),
+                    () -> gameManager.unregisterRun(run)
             );
-
-            // Remove from global speedrun registry
-            gameManager.unregisterRun(run);
-
         }, delayTicks);
     }
 
-    private void cleanupAfterRun(Speedrun run, Runnable onWorldsDeleted) {
-        // stop stopwatch + cancel update tasks
-        run.getStopWatch().stop();
+    private void cleanupAfterRun(Speedrun run, Runnable onWorldsDeleted, Runnable onUnfrozen) {
+        // stop clock + cancel update tasks
+        run.getClock().stop();
         cancelTasks(run);
 
         // Update speedrun state
@@ -246,14 +284,56 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
         List<Speedrunner> speedRunners = run.getSpeedrunners();
         speedRunners.forEach(Speedrunner::freeze);
 
-        // Callback for managers to delete worlds
-        onWorldsDeleted.run();
+        // Teleport the speedrunners out of the run worlds before they are deleted
+        List<Player> players = speedRunners.stream().map(Speedrunner::getPlayer).collect(Collectors.toList());
+        worldManager.teleportToFallback(players).thenRun(() -> {
+            // Callback for managers to delete worlds
+            onWorldsDeleted.run();
+
+            // Restore player states
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                speedRunners.forEach(speedRunner -> {
+                    speedRunner.restoreState();
+                    speedRunner.unfreeze();
+                });
+                onUnfrozen.run();
+            });
+        }).exceptionally(e -> {
+            // Free the slots and release the speedrunners anyway, rather than blocking queued runs for good
+            gameManager.releaseSlots(run);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                speedRunners.forEach(Speedrunner::unfreeze);
+                onUnfrozen.run();
+            });
+            return logFailure("Cleanup", e);
+        });
+    }
+
+    /* ==========================================================
+     *                COMMON TELEPORT LOGIC
+     * ========================================================== */
+    /**
+     * Teleports speedrunners to the spawn of their world set without blocking on chunk loads.
+     *
+     * <p>The follow-up steps, e.g. resetting the player states and starting the countdown, run on the main
+     * thread once every speedrunner has arrived.</p>
+     *
+     * @param speedrunners the speedrunners to teleport
+     * @param afterTeleport invoked once every teleport has finished
+     */
+    protected void teleportToSpawns(Collection<Speedrunner> speedrunners, Runnable afterTeleport) {
+        Map<Player, Location> destinations = new LinkedHashMap<>();
+        speedrunners.forEach(speedrunner ->
+                destinations.put(speedrunner.getPlayer(), speedrunner.getWorldSet().getSpawn()));
+
+        worldManager.getTeleportService().teleportAll(destinations)
+                .thenRun(afterTeleport)
+                .exceptionally(e -> logFailure("Start", e));
+    }
 
-        // Restore player states
-        Bukkit.getScheduler().runTask(plugin, () -> speedRunners.forEach(speedRunner -> {
-            speedRunner.restoreState();
-            speedRunner.unfreeze();
-        }));
+    private Void logFailure(String step, Throwable e) {
+        Bukkit.getLogger().warning("[SRP] " + step + " after teleporting failed: " + e.getMessage());
+        return null;
     }
 
     /* ==========================================================
@@ -279,32 +359,11 @@ public abstract class GameModeManager<T extends Speedrun> implements IGameModeMa
     }
 
     /**
-     * Schedules a repeating task that executes every few ticks to update run-specific logic.
-     *
-     * <p>Typically used for updating player timers, HUDs, or other periodic tasks.</p>
-     *
-     * @param run the run associated with the task
-     * @param tickAction the action to execute each tick
-     */
-    protected void scheduleRepeatingTickTask(T run, Consumer<T> tickAction) {
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (run.getState() == Speedrun.State.RUNNING) {
-                tickAction.accept(run);
-            }},
-            0L,
-            5L
-        );
-
-        run.setTimerUpdateTask(task);
-    }
-
-    /**
-     * Cancels any scheduled timer update or timeout tasks associated with a run.
+     * Cancels the scheduled timeout task associated with a run.
      *
      * @param run the run whose tasks should be canceled
      */
     protected void cancelTasks(Speedrun run) {
-        if (run.getTimerUpdateTask() != null) run.getTimerUpdateTask().cancel(); run.setTimerUpdateTask(null);
         if (run.getTimeoutTask() != null) run.getTimeoutTask().cancel(); run.setTimeoutTask(null);
     }
 }
\ No newline at end of file
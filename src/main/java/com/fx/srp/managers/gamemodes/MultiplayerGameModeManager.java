@@ -3,6 +3,7 @@ package com.fx.srp.managers.gamemodes;
 import com.fx.srp.SpeedRunPlus;
 import com.fx.srp.commands.GameMode;
 import com.fx.srp.managers.GameManager;
+import com.fx.srp.managers.util.RequestBroker;
 import com.fx.srp.managers.util.WorldManager;
 import com.fx.srp.model.requests.PendingRequest;
 import com.fx.srp.model.run.Speedrun;
@@ -11,9 +12,7 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
 import java.util.Locale;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract base class for managing multiplayer game mode logic in SRP.
@@ -32,8 +31,11 @@ import java.util.concurrent.ConcurrentHashMap;
 public abstract class MultiplayerGameModeManager<T extends Speedrun>
         extends GameModeManager<T> implements IMultiplayer {
 
-    // Track requests
-    protected final Map<UUID, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    // Track requests, shared by all multiplayer game modes
+    protected final RequestBroker requestBroker;
+
+    // The game mode of the requests accepted and declined through this manager
+    protected final GameMode gameMode;
 
     /**
      * Creates a new multiplayer game mode manager.
@@ -46,9 +48,13 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
      * @param plugin       the main plugin instance
      * @param gameManager  the central game manager responsible for active speedruns
      * @param worldManager the world manager responsible for speedrun worlds
+     * @param gameMode     the game mode managed, whose requests are accepted and declined through this manager
      */
-    public MultiplayerGameModeManager(SpeedRunPlus plugin, GameManager gameManager, WorldManager worldManager) {
+    public MultiplayerGameModeManager(SpeedRunPlus plugin, GameManager gameManager, WorldManager worldManager,
+                                      GameMode gameMode) {
         super(plugin, gameManager, worldManager);
+        this.requestBroker = gameManager.getRequestBroker();
+        this.gameMode = gameMode;
     }
 
     /* ==========================================================
@@ -57,7 +63,7 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
     /**
      * Sends a speedrun request from one player to another.
      *
-     * <p>Sends messages to both players and schedules a timeout for the request.</p>
+     * <p>Sends messages to both players and opens the request with the {@link RequestBroker}, which expires it.</p>
      *
      * @param sender the player initiating the request
      * @param target the player being requested
@@ -89,7 +95,7 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
         }
 
         // target already has a pending request
-        if (pendingRequests.containsKey(targetUUID)) {
+        if (requestBroker.getRequestTo(targetUUID) != null) {
             sender.sendMessage(
                     ChatColor.GRAY + target.getName() + " " +
                     ChatColor.YELLOW + " already has a pending request!"
@@ -98,14 +104,13 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
         }
 
         // sender has already requested within threshold
-        if (pendingRequests.values().stream().anyMatch(req -> req.isByPlayer(senderUUID))) {
+        if (requestBroker.hasRequestBy(senderUUID)) {
             sender.sendMessage(ChatColor.YELLOW + " You've already sent a request! Please wait.");
             return;
         }
 
         // Team invites via selected teammates have been removed. Only CoopManager creates team invites.
-        PendingRequest request = new PendingRequest(senderUUID, false);
-        pendingRequests.put(targetUUID, request);
+        PendingRequest request = new PendingRequest(senderUUID, targetUUID, gameMode, false);
         String gameModeName = gameMode.name().toLowerCase(Locale.ROOT);
 
         // Notify sender/target about the request
@@ -113,18 +118,15 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
         target.sendMessage(ChatColor.YELLOW + "You’ve been requested to a " + gameModeName + " run by " + ChatColor.GRAY + sender.getName() + ChatColor.YELLOW + "!");
         target.sendMessage(ChatColor.YELLOW + "Use " + ChatColor.GRAY + "/srp " + gameModeName + " accept" + ChatColor.YELLOW + " or " + ChatColor.GRAY + "/srp " + gameModeName + " decline");
 
-        // Schedule request timeout
-        int taskId = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            pendingRequests.remove(targetUUID);
+        // Open the request until it times out
+        requestBroker.open(request, configHandler.getMaxRequestTime(), () -> {
             sender.sendMessage(
                     ChatColor.YELLOW + "Your request to " +
                     ChatColor.GRAY + target.getName() + " " +
                     ChatColor.YELLOW + "has expired!"
             );
             target.sendMessage(ChatColor.YELLOW + "The speedrun request has expired.");
-        }, configHandler.getMaxRequestTime() / 50L).getTaskId();
-
-        request.setTimeoutTaskId(taskId);
+        });
     }
 
     /* ==========================================================
@@ -133,7 +135,7 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
     /**
      * Accept a pending request.
      *
-     * <p>Removes the pending request and cancels its timeout task.
+     * <p>Removes the pending request, which cancels its timeout.
      * Starts the run</p>
      *
      * @param target the player accepting the request
@@ -149,25 +151,20 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
     /**
      * Declines a pending request.
      *
-     * <p>Removes the pending request and cancels its timeout task.
+     * <p>Removes the pending request, which cancels its timeout.
      * Sends messages to both the partner and the leader.</p>
      *
      * @param target the player declining the request
      */
     @Override
     public void decline(Player target){
-        UUID partnerUUID = target.getUniqueId();
-
-        // If the partner has not received a request for a speedrun
-        if (!pendingRequests.containsKey(partnerUUID)) {
+        // If the partner has not received a request for a speedrun of this game mode
+        PendingRequest request = requestBroker.decline(target.getUniqueId(), gameMode);
+        if (request == null) {
             target.sendMessage(ChatColor.YELLOW + "You have no pending request!");
             return;
         }
 
-        PendingRequest request = pendingRequests.remove(partnerUUID);
-        int taskId = request.getTimeoutTaskId();
-        if (taskId > 0) Bukkit.getScheduler().cancelTask(request.getTimeoutTaskId());
-
         // Decline the request
         Player leader = Bukkit.getPlayer(request.getPlayerUUID());
         target.sendMessage(ChatColor.YELLOW + "You’ve decline the request!");
@@ -191,7 +188,7 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
      *   <li>Verifies that a pending request exists for the target player.</li>
      *   <li>Ensures the target player is not already participating in a speedrun.</li>
      *   <li>Checks that the sender is online and not currently in a speedrun.</li>
-     *   <li>Cancels the request timeout task to prevent it from expiring after processing.</li>
+     *   <li>Accepts the request if it is valid, or cancels it otherwise, removing it and its timeout.</li>
      * </ul>
      * <p>
      * If any validation fails, a message is sent to the target player explaining the issue,
@@ -203,30 +200,8 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
      *         is invalid, expired, or the sender is unavailable
      */
     protected Player getRequestSender(Player target){
-        // Get the request
-        PendingRequest request = pendingRequests.remove(target.getUniqueId());
-        if (request == null || request.getTimeoutTaskId() <= 0) {
-            target.sendMessage(ChatColor.YELLOW + "You have no pending request!");
-            return null;
-        }
-
-        // If already in a speedrun
-        if (gameManager.isInRun(target)) {
-            target.sendMessage(ChatColor.RED + "You are already in a speedrun!");
-            return null;
-        }
-
-        // Get the sender from the request
-        Player sender = Bukkit.getPlayer(request.getPlayerUUID());
-        if (sender == null || !sender.isOnline() || gameManager.isInRun(sender)) {
-            target.sendMessage(ChatColor.YELLOW + "The other player is no longer available!");
-            return null;
-        }
-
-        // Cancel request timeout task
-        Bukkit.getScheduler().cancelTask(request.getTimeoutTaskId());
-
-        return sender;
+        PendingRequest request = acceptPendingRequest(target);
+        return request == null ? null : Bukkit.getPlayer(request.getPlayerUUID());
     }
 
     /**
@@ -235,26 +210,33 @@ public abstract class MultiplayerGameModeManager<T extends Speedrun>
      * can inspect flags such as teamInvite.
      */
     protected PendingRequest popPendingRequest(Player target) {
-        PendingRequest request = pendingRequests.remove(target.getUniqueId());
-        if (request == null || request.getTimeoutTaskId() <= 0) {
+        return acceptPendingRequest(target);
+    }
+
+    // Validates the pending request before accepting it, a request that can no longer be accepted is cancelled.
+    // A request for another game mode is left pending, to be accepted through its own manager
+    private PendingRequest acceptPendingRequest(Player target) {
+        PendingRequest request = requestBroker.getRequestTo(target.getUniqueId(), gameMode);
+        if (request == null) {
             target.sendMessage(ChatColor.YELLOW + "You have no pending request!");
             return null;
         }
 
+        // If already in a speedrun
         if (gameManager.isInRun(target)) {
+            requestBroker.cancel(target.getUniqueId());
             target.sendMessage(ChatColor.RED + "You are already in a speedrun!");
             return null;
         }
 
+        // Get the sender from the request
         Player sender = Bukkit.getPlayer(request.getPlayerUUID());
         if (sender == null || !sender.isOnline() || gameManager.isInRun(sender)) {
+            requestBroker.cancel(target.getUniqueId());
             target.sendMessage(ChatColor.YELLOW + "The other player is no longer available!");
             return null;
         }
 
-        // Cancel request timeout task
-        Bukkit.getScheduler().cancelTask(request.getTimeoutTaskId());
-
-        return request;
+        return requestBroker.accept(target.getUniqueId(), gameMode);
     }
-}
\ No newline at end of file
+}
@@ -8,8 +8,8 @@ import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.model.run.SoloSpeedrun;
 import com.fx.srp.util.time.TimeFormatter;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.NonNull;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import com.fx.srp.model.seed.SeedCategory;
@@ -44,7 +44,7 @@ public class SoloManager extends GameModeManager<SoloSpeedrun> {
      *                       START SOLO RUN
      * ========================================================== */
     /**
-     * Starts a new {@link SoloSpeedrun} for a player.
+     * Starts a new {@link SoloSpeedrun} for a player, once admitted.
      *
      * <p>Creates the required worlds, captures the player state, and more.</p>
      *
@@ -58,11 +58,15 @@ public class SoloManager extends GameModeManager<SoloSpeedrun> {
             return;
         }
 
-        StopWatch stopWatch = new StopWatch();
-        Speedrunner runner = new Speedrunner(player, stopWatch);
+        gameManager.admitRun(List.of(player), () -> launch(player));
+    }
+
+    private void launch(Player player) {
+        RunClock clock = new RunClock();
+        Speedrunner runner = new Speedrunner(player, clock);
         runner.captureState();
 
-        SoloSpeedrun soloSpeedrun = new SoloSpeedrun(GameMode.SOLO, runner, stopWatch, null);
+        SoloSpeedrun soloSpeedrun = new SoloSpeedrun(GameMode.SOLO, runner, clock, null);
         gameManager.registerRun(soloSpeedrun);
 
         initializeRun(soloSpeedrun);
@@ -84,14 +88,12 @@ public class SoloManager extends GameModeManager<SoloSpeedrun> {
             // Freeze the player
             runner.freeze();
 
-            // Teleport player
-            player.teleport(worldSet.getSpawn());
-
-            // Reset player state (health, hunger, inventory, etc.)
-            runner.resetState();
-
-            startCountdown(soloSpeedrun, List.of(runner));
-        });
+            // Teleport player, once arrived reset their state (health, hunger, inventory, etc.)
+            teleportToSpawns(List.of(runner), () -> {
+                runner.resetState();
+                startCountdown(soloSpeedrun, List.of(runner));
+            });
+        }, () -> abortWorldCreation(soloSpeedrun));
     }
 
     /* ==========================================================
@@ -154,7 +156,7 @@ public class SoloManager extends GameModeManager<SoloSpeedrun> {
         soloSpeedrun.setState(Speedrun.State.FINISHED);
 
         // Get the final time
-        String formattedTime = new TimeFormatter(soloSpeedrun.getStopWatch())
+        String formattedTime = new TimeFormatter(soloSpeedrun.getClock())
                 .withHours()
                 .withSuperscriptMs()
                 .format();
@@ -2,35 +2,87 @@ package com.fx.srp.managers.util;
 
 import com.fx.srp.SpeedRunPlus;
 import com.fx.srp.config.ConfigHandler;
+import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Supplier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages AFK (Away From Keyboard) detection and handling for players during speedruns.
  *
  * <p>This manager tracks player movement and activity, warns players before timeout,
  * and triggers a callback when a player exceeds the AFK threshold.</p>
+ *
+ * <p>Activity is recorded as the tick it happened at and the packed block position of the player, without any
+ * allocation. The warning and timeout deadlines of each player sit in a hashed timing wheel advanced every tick,
+ * a player is only checked once their deadline expires: activity since then moves the deadline along. As the wheel
+ * spans the timeout, the cost of a tick does not depend on the number of tracked players.</p>
+ *
+ * <p>Players tracked at the same tick, e.g. the runners of a run starting, are sharded by the hash of their UUID
+ * across the ticks of a second, and at most the configured number of deadlines expire per tick: the remaining ones
+ * are deferred to the next tick.</p>
+ *
+ * <p>The manager is only accessed from the main server thread, its metrics may be read from any thread.</p>
  */
 public class AfkManager {
 
+    private static final long WARNING_BEFORE_TIMEOUT_TICKS = 60 * 20L;
+    private static final int MAX_WHEEL_SIZE = 1 << 16;
+    private static final int SHARDS = 20;
+
     private final ConfigHandler config = ConfigHandler.getInstance();
     private final SpeedRunPlus plugin;
 
     // Player tracking
-    private final Map<UUID, Location> lastLocations = new ConcurrentHashMap<>();
-    private final Map<UUID, Long> lastActivity = new ConcurrentHashMap<>();
-    private final Set<UUID> warnedPlayers = new HashSet<>();
+    private final Map<UUID, Tracker> trackers = new HashMap<>();
+
+    // Timing wheel, slots are created on first use
+    private List<Tracker>[] wheel;
+    private int wheelMask;
+    private long tick;
 
+    private long timeoutTicks;
+    private long warningTicks;
+    private long minDistanceSquared;
+    private int maxChecksPerTick;
+
+    private AfkTimeoutHandler handler;
     private BukkitTask task;
     private boolean running;
 
+    // Metrics
+    @Getter private final AtomicLong expiredDeadlines = new AtomicLong();
+    @Getter private final AtomicLong warnings = new AtomicLong();
+    @Getter private final AtomicLong timeouts = new AtomicLong();
+    @Getter private final AtomicLong deferredDeadlines = new AtomicLong();
+    @Getter private final AtomicLong sweeps = new AtomicLong();
+    private final AtomicLong sweepNanos = new AtomicLong();
+    private final AtomicLong maxSweepNanos = new AtomicLong();
+
+    private static class Tracker {
+        private final Player player;
+        private World world;
+        private long position;
+        private long lastActivity;
+        private long warnedFor = -1;
+        private long deadline;
+        private boolean removed;
+
+        private Tracker(Player player) {
+            this.player = player;
+        }
+    }
+
     /**
      * Constructs a new {@link AfkManager}.
      *
@@ -38,20 +90,62 @@ public class AfkManager {
      */
     public AfkManager(SpeedRunPlus plugin) {
         this.plugin = plugin;
+        loadSettings();
+    }
+
+    /**
+     * Starts tracking the activity of a player, counting from now.
+     *
+     * <p>Does nothing if the player is already tracked.</p>
+     *
+     * @param player the player to track
+     */
+    public void track(Player player) {
+        if (trackers.containsKey(player.getUniqueId())) return;
+
+        Tracker tracker = new Tracker(player);
+        Location location = player.getLocation();
+        tracker.world = location.getWorld();
+        tracker.position = pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        tracker.lastActivity = tick;
+        trackers.put(player.getUniqueId(), tracker);
+        schedule(tracker, tick + warningTicks + Math.floorMod(player.getUniqueId().hashCode(), SHARDS));
     }
 
     /**
-     * Updates the activity of a player by recording their current location and timestamp.
+     * Updates the activity of a player, e.g. when interacting.
      *
-     * <p>Also clears any prior AFK warnings for the player.</p>
+     * <p>Also clears any prior AFK warnings for the player. Does nothing if the player is not tracked.</p>
      *
      * @param player the player whose activity is being updated
      */
     public void updateActivity(Player player) {
-        UUID uuid = player.getUniqueId();
-        lastLocations.put(uuid, player.getLocation());
-        lastActivity.put(uuid, System.currentTimeMillis());
-        warnedPlayers.remove(uuid);
+        Tracker tracker = trackers.get(player.getUniqueId());
+        if (tracker != null) tracker.lastActivity = tick;
+    }
+
+    /**
+     * Updates the activity of a player who moved.
+     *
+     * <p>The move only counts as activity once the player is at least the configured distance away from the block
+     * of their last activity, or changed worlds. Does nothing if the player is not tracked.</p>
+     *
+     * @param player the player who moved
+     * @param to     the location moved to
+     */
+    public void updateMovement(Player player, Location to) {
+        Tracker tracker = trackers.get(player.getUniqueId());
+        if (tracker == null) return;
+
+        int x = to.getBlockX();
+        int y = to.getBlockY();
+        int z = to.getBlockZ();
+        World world = to.getWorld();
+        if (world == tracker.world && distanceSquared(tracker.position, x, y, z) < minDistanceSquared) return;
+
+        tracker.world = world;
+        tracker.position = pack(x, y, z);
+        tracker.lastActivity = tick;
     }
 
     /**
@@ -62,36 +156,57 @@ public class AfkManager {
      * @param player the player to remove
      */
     public void remove(Player player) {
-        UUID uuid = player.getUniqueId();
-        lastLocations.remove(uuid);
-        lastActivity.remove(uuid);
-        warnedPlayers.remove(uuid);
+        Tracker tracker = trackers.remove(player.getUniqueId());
+        if (tracker != null) tracker.removed = true;
     }
 
     /**
-     * Starts the scheduled AFK checker task.
+     * Returns the number of tracked players.
      *
-     * <p>The checker periodically evaluates the player's last location and activity timestamp.
-     * Players who remain inactive beyond the configured threshold are warned and then
-     * processed via {@link AfkTimeoutHandler}.</p>
+     * @return the number of tracked players
+     */
+    public int getTracked() {
+        return trackers.size();
+    }
+
+    /**
+     * Returns the average time a tick spent expiring deadlines, over the ticks any deadline expired.
+     *
+     * @return the average sweep time in milliseconds
+     */
+    public double getAverageSweepMillis() {
+        long count = sweeps.get();
+        return count == 0 ? 0 : sweepNanos.get() / 1_000_000d / count;
+    }
+
+    /**
+     * Returns the longest time a tick spent expiring deadlines.
+     *
+     * @return the longest sweep time in milliseconds
+     */
+    public double getMaxSweepMillis() {
+        return maxSweepNanos.get() / 1_000_000d;
+    }
+
+    /**
+     * Starts the AFK checker task, which advances the timing wheel every tick.
+     *
+     * <p>Tracked players who remain inactive beyond the configured threshold are warned and then
+     * processed via {@link AfkTimeoutHandler}. Does nothing if already running.</p>
      *
-     * @param activePlayersSupplier a supplier that provides a collection of active players to monitor
      * @param handler the callback handler invoked when a player reaches the AFK timeout
      */
-    public void startAfkChecker(Supplier<Collection<Player>> activePlayersSupplier, AfkTimeoutHandler handler) {
-        long interval = config.getAfkCheckInterval();
+    public void startAfkChecker(AfkTimeoutHandler handler) {
+        if (running) return;
         running = true;
+        this.handler = handler;
 
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                long now = System.currentTimeMillis();
-
-                for (Player player : activePlayersSupplier.get()) {
-                    processPlayer(player, now, handler);
-                }
+                advance();
             }
-        }.runTaskTimer(plugin, interval, interval);
+        }.runTaskTimer(plugin, 1L, 1L);
     }
 
     /**
@@ -124,56 +239,104 @@ public class AfkManager {
     }
 
     /* ==========================================================
-     *                      Helpers
+     *                      Timing wheel
      * ========================================================== */
-    private void processPlayer(Player player, long now, AfkTimeoutHandler handler) {
-        if (!player.isOnline()) {
-            return;
-        }
+    @SuppressWarnings("unchecked")
+    private void loadSettings() {
+        timeoutTicks = Math.max(1L, config.getAfkTimeout() / 50);
+        warningTicks = Math.max(0L, timeoutTicks - WARNING_BEFORE_TIMEOUT_TICKS);
+        double minDistance = config.getAfkMinDistance();
+        minDistanceSquared = Math.max(1L, (long) Math.ceil(minDistance * minDistance));
+        maxChecksPerTick = config.getAfkMaxChecksPerTick();
 
-        UUID uuid = player.getUniqueId();
-        Location lastLoc = lastLocations.get(uuid);
-        long lastTime = lastActivity.getOrDefault(uuid, now);
-        Location currentLoc = player.getLocation();
+        // Span the timeout, so that each deadline is visited only once
+        int size = Integer.highestOneBit((int) Math.min(MAX_WHEEL_SIZE, timeoutTicks) * 2 - 1);
+        wheel = new List[size];
+        wheelMask = size - 1;
+    }
 
-        if (shouldUpdateLocation(lastLoc, currentLoc)) {
-            updateActivity(player);
-            return;
-        }
+    private void schedule(Tracker tracker, long deadline) {
+        tracker.deadline = Math.max(deadline, tick + 1);
+        int slot = (int) (tracker.deadline & wheelMask);
+        if (wheel[slot] == null) wheel[slot] = new ArrayList<>();
+        wheel[slot].add(tracker);
+    }
 
-        if (isPlayerMoving(lastLoc, currentLoc)) {
-            updateActivity(player);
-            return;
-        }
+    private void advance() {
+        tick++;
+        List<Tracker> bucket = wheel[(int) (tick & wheelMask)];
+        if (bucket == null || bucket.isEmpty()) return;
+        long start = System.nanoTime();
 
-        long timeAfk = now - lastTime;
+        // Deadlines expiring now are dropped from the bucket, later ones (further rounds) are kept
+        int size = bucket.size();
+        int kept = 0;
+        int checks = 0;
+        for (int i = 0; i < size; i++) {
+            Tracker tracker = bucket.get(i);
+            if (tracker.removed) continue;
+            if (tracker.deadline > tick) {
+                bucket.set(kept++, tracker);
+                continue;
+            }
 
-        handlePossibleWarning(player, uuid, timeAfk);
-        handlePossibleTimeout(player, timeAfk, handler);
-    }
+            if (checks++ < maxChecksPerTick) {
+                expire(tracker);
+            } else {
+                deferredDeadlines.incrementAndGet();
+                schedule(tracker, tick + 1);
+            }
+        }
 
-    private boolean shouldUpdateLocation(Location lastLoc, Location currentLoc) {
-        return lastLoc == null || currentLoc.getWorld() != lastLoc.getWorld();
-    }
+        // Keep the deadlines rescheduled into this bucket while expiring
+        for (int i = size; i < bucket.size(); i++) {
+            bucket.set(kept++, bucket.get(i));
+        }
+        bucket.subList(kept, bucket.size()).clear();
 
-    private boolean isPlayerMoving(Location lastLoc, Location currentLoc) {
-        return currentLoc.distance(lastLoc) >= config.getAfkMinDistance();
+        long elapsed = System.nanoTime() - start;
+        sweeps.incrementAndGet();
+        sweepNanos.addAndGet(elapsed);
+        maxSweepNanos.accumulateAndGet(elapsed, Math::max);
     }
 
-    private void handlePossibleWarning(Player player, UUID uuid, long timeAfk) {
-        long warnTime = config.getAfkTimeout() - 60_000;
+    private void expire(Tracker tracker) {
+        expiredDeadlines.incrementAndGet();
+        Player player = tracker.player;
+        if (!player.isOnline()) {
+            remove(player);
+            return;
+        }
+
+        long idle = tick - tracker.lastActivity;
+        if (idle >= timeoutTicks) {
+            timeouts.incrementAndGet();
+            remove(player);
+            handler.onAfkTimeout(player);
+            return;
+        }
 
-        if (timeAfk >= warnTime && !warnedPlayers.contains(uuid)) {
-            warnedPlayers.add(uuid);
+        if (idle >= warningTicks && tracker.warnedFor != tracker.lastActivity) {
+            tracker.warnedFor = tracker.lastActivity;
+            warnings.incrementAndGet();
             player.sendMessage(ChatColor.YELLOW + "You’ve been inactive. Run ends in 1 minute if AFK!");
         }
+
+        // Activity since the deadline was set moves it along
+        schedule(tracker, tracker.lastActivity + (idle >= warningTicks ? timeoutTicks : warningTicks));
     }
 
-    private void handlePossibleTimeout(Player player, long timeAfk, AfkTimeoutHandler handler) {
-        if (timeAfk >= config.getAfkTimeout()) {
-            handler.onAfkTimeout(player);
-            remove(player);
-        }
+    /* ==========================================================
+     *                      Helpers
+     * ========================================================== */
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
     }
-}
 
+    private static long distanceSquared(long position, int x, int y, int z) {
+        long dx = x - (position >> 38);
+        long dz = z - (position << 26 >> 38);
+        long dy = y - (position << 52 >> 52);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,211 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.config.ConfigHandler;
+import lombok.AllArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * Pre-generates the chunks around speedrun spawns using Paper's asynchronous chunk API.
+ *
+ * <p>Chunks are requested closest-first, with a bounded number of requests in flight, so that
+ * generation does not flood the chunk system. Progress is reported periodically as a percentage.</p>
+ *
+ * <p>On servers without asynchronous chunk loading, e.g. Spigot, chunks are loaded closest-first on the main
+ * thread instead, a few per tick so that the server keeps ticking in between.</p>
+ */
+public class ChunkPregenerator {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+    private final SpeedRunPlus plugin;
+    private final boolean asyncSupported;
+
+    private static final long PROGRESS_INTERVAL_TICKS = 10L;
+
+    /**
+     * A chunk to be pre-generated.
+     */
+    @AllArgsConstructor
+    private static class ChunkRequest {
+        private final World world;
+        private final int chunkX;
+        private final int chunkZ;
+        private final int distance;
+    }
+
+    /**
+     * Constructs a new {@link ChunkPregenerator}.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public ChunkPregenerator(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+        this.asyncSupported = isChunkAtAsyncAvailable();
+        if (!asyncSupported) {
+            Bukkit.getLogger().info("[SRP] Asynchronous chunk loading is not available, spawns are pre-generated "
+                    + "on the main thread");
+        }
+    }
+
+    /**
+     * Loads (and generates if needed) every chunk within the configured radius of the given locations.
+     *
+     * @param centers    the locations to pre-generate around, typically the spawns of the speedrun worlds
+     * @param cancelled  checked before each request, pre-generation stops silently once it returns {@code true}
+     * @param onProgress receives the progress as a percentage in {@code [0, 100]}
+     * @param onComplete invoked on the main thread once every chunk is ready
+     */
+    public void pregenerate(
+            Collection<Location> centers,
+            BooleanSupplier cancelled,
+            IntConsumer onProgress,
+            Runnable onComplete
+    ) {
+        Deque<ChunkRequest> queue = buildQueue(centers, configHandler.getPregenerationRadius());
+        int total = queue.size();
+        if (total == 0) {
+            Bukkit.getScheduler().runTask(plugin, onComplete);
+            return;
+        }
+
+        AtomicInteger completed = new AtomicInteger();
+
+        // Report progress periodically, rather than on every single chunk
+        BukkitTask progressTask = Bukkit.getScheduler().runTaskTimer(plugin, () ->
+                onProgress.accept(completed.get() * 100 / total),
+                0L,
+                PROGRESS_INTERVAL_TICKS
+        );
+
+        if (asyncSupported) {
+            requestAsync(queue, total, completed, progressTask, cancelled, onProgress, onComplete);
+        } else {
+            loadPerTick(queue, completed, progressTask, cancelled, onProgress, onComplete);
+        }
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void requestAsync(
+            Deque<ChunkRequest> queue,
+            int total,
+            AtomicInteger completed,
+            BukkitTask progressTask,
+            BooleanSupplier cancelled,
+            IntConsumer onProgress,
+            Runnable onComplete
+    ) {
+        Runnable requestNext = new Runnable() {
+            @Override
+            public void run() {
+                if (cancelled.getAsBoolean()) {
+                    progressTask.cancel();
+                    return;
+                }
+
+                ChunkRequest request = queue.pollFirst();
+                if (request == null) return;
+
+                request.world.getChunkAtAsync(request.chunkX, request.chunkZ, true).whenComplete((chunk, error) ->
+                        Bukkit.getScheduler().runTask(plugin, () -> {
+                            // Last chunk is ready
+                            if (completed.incrementAndGet() == total) {
+                                progressTask.cancel();
+                                if (cancelled.getAsBoolean()) return;
+                                onProgress.accept(100);
+                                onComplete.run();
+                                return;
+                            }
+                            run();
+                        })
+                );
+            }
+        };
+
+        // Start the initial batch of requests, each completion requests the next chunk
+        int inFlight = Math.min(configHandler.getPregenerationMaxInFlight(), total);
+        for (int i = 0; i < inFlight; i++) {
+            requestNext.run();
+        }
+    }
+
+    private void loadPerTick(
+            Deque<ChunkRequest> queue,
+            AtomicInteger completed,
+            BukkitTask progressTask,
+            BooleanSupplier cancelled,
+            IntConsumer onProgress,
+            Runnable onComplete
+    ) {
+        int chunksPerTick = configHandler.getPregenerationSyncChunksPerTick();
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (cancelled.getAsBoolean()) {
+                    progressTask.cancel();
+                    cancel();
+                    return;
+                }
+
+                // Loading a chunk blocks the main thread, so only a few are loaded each tick
+                for (int i = 0; i < chunksPerTick && !queue.isEmpty(); i++) {
+                    ChunkRequest request = queue.pollFirst();
+                    request.world.getChunkAt(request.chunkX, request.chunkZ);
+                    completed.incrementAndGet();
+                }
+
+                // Last chunk is ready
+                if (queue.isEmpty()) {
+                    progressTask.cancel();
+                    cancel();
+                    onProgress.accept(100);
+                    onComplete.run();
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    private static boolean isChunkAtAsyncAvailable() {
+        try {
+            World.class.getMethod("getChunkAtAsync", int.class, int.class, boolean.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private Deque<ChunkRequest> buildQueue(Collection<Location> centers, int radius) {
+        List<ChunkRequest> requests = new ArrayList<>();
+        for (Location center : centers) {
+            World world = center.getWorld();
+            if (world == null) continue;
+
+            int centerX = center.getBlockX() >> 4;
+            int centerZ = center.getBlockZ() >> 4;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    requests.add(new ChunkRequest(world, centerX + dx, centerZ + dz, dx * dx + dz * dz));
+                }
+            }
+        }
+
+        // Closest chunks first, so the area around the players is ready the earliest
+        requests.sort(Comparator.comparingInt(request -> request.distance));
+        return new ArrayDeque<>(requests);
+    }
+}
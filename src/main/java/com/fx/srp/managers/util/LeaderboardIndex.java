@@ -0,0 +1,210 @@
+package com.fx.srp.managers.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An order-statistic index of leaderboard entries: a treap whose nodes know the size of their subtree.
+ *
+ * <p>Inserting and removing an entry, looking up the rank of an entry and the entry at a rank all take logarithmic
+ * time. The order must be total, i.e. only compare an entry as equal to itself.</p>
+ *
+ * <p>An index is only accessed from a single thread, the main server thread or the writer of the
+ * {@link LeaderboardJournal}, each of which keeps its own index.</p>
+ */
+class LeaderboardIndex {
+
+    private final Comparator<LeaderboardManager.RunEntry> order;
+    private Node root;
+
+    private static final class Node {
+        private final LeaderboardManager.RunEntry entry;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(LeaderboardManager.RunEntry entry) {
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param order the order of the entries, fastest first
+     */
+    LeaderboardIndex(Comparator<LeaderboardManager.RunEntry> order) {
+        this.order = order;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Inserts an entry.
+     *
+     * @param entry the entry, not in the index yet
+     */
+    void insert(LeaderboardManager.RunEntry entry) {
+        root = insert(root, new Node(entry));
+    }
+
+    /**
+     * Removes an entry, does nothing if it is not in the index.
+     *
+     * @param entry the entry
+     */
+    void remove(LeaderboardManager.RunEntry entry) {
+        root = remove(root, entry);
+    }
+
+    /**
+     * Returns the rank of an entry, i.e. the number of entries before it.
+     *
+     * @param entry the entry
+     * @return the zero-based rank, or the rank it would have if it is not in the index
+     */
+    int rank(LeaderboardManager.RunEntry entry) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int comparison = order.compare(entry, node.entry);
+            if (comparison == 0) return rank + size(node.left);
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the entry at a rank.
+     *
+     * @param rank the zero-based rank
+     * @return the entry, or {@code null} if the rank is out of bounds
+     */
+    LeaderboardManager.RunEntry get(int rank) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node.entry;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all entries in order.
+     *
+     * @return the entries, fastest first
+     */
+    List<LeaderboardManager.RunEntry> toList() {
+        List<LeaderboardManager.RunEntry> entries = new ArrayList<>(size());
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            entries.add(node.entry);
+            node = node.right;
+        }
+        return entries;
+    }
+
+    /* ==========================================================
+     *                      Helpers
+     * ========================================================== */
+    private Node insert(Node node, Node added) {
+        if (node == null) return added;
+
+        // The added node becomes the root of this subtree, holding everything before it on its left
+        if (added.priority > node.priority) {
+            split(node, added);
+            return update(added);
+        }
+
+        if (order.compare(added.entry, node.entry) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    // Splits a subtree into the entries before and after the added node, as the children of the added node
+    private void split(Node node, Node added) {
+        if (node == null) return;
+
+        if (order.compare(node.entry, added.entry) < 0) {
+            Node right = node.right;
+            node.right = null;
+            split(right, added);
+            node.right = added.left;
+            added.left = update(node);
+        } else {
+            Node left = node.left;
+            node.left = null;
+            split(left, added);
+            node.left = added.right;
+            added.right = update(node);
+        }
+    }
+
+    private Node remove(Node node, LeaderboardManager.RunEntry entry) {
+        if (node == null) return null;
+
+        int comparison = order.compare(entry, node.entry);
+        if (comparison == 0) return merge(node.left, node.right);
+        if (comparison < 0) {
+            node.left = remove(node.left, entry);
+        } else {
+            node.right = remove(node.right, entry);
+        }
+        return update(node);
+    }
+
+    // Merges two subtrees, every entry of the first one is before every entry of the second one
+    private Node merge(Node first, Node second) {
+        if (first == null) return second;
+        if (second == null) return first;
+
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            return update(first);
+        }
+        second.left = merge(first, second.left);
+        return update(second);
+    }
+
+    private Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
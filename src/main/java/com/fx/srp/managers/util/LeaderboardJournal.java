@@ -0,0 +1,340 @@
+package com.fx.srp.managers.util;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Persists the leaderboard as a sorted snapshot file and a journal of the runs finished since.
+ *
+ * <p>Finished runs are handed to a single background writer, which inserts them into its own sorted copy of the
+ * leaderboard, from which it
+ * publishes a new {@link LeaderboardSnapshot} once per batch of queued runs, and appends the runs to the journal,
+ * syncing it once per batch rather than once per run. Every so often the writer compacts the journal: it replaces
+ * the snapshot file with its sorted copy, written to a temporary file and moved over the snapshot file, and then
+ * truncates the journal. Copying and formatting the whole leaderboard thus never happens on the main thread.</p>
+ *
+ * <p>On startup the snapshot file is read and the journal replayed on top of it. A crash between replacing the
+ * snapshot file and truncating the journal, or a retried append, leaves runs in the journal that were already read,
+ * so a journal line identical to an earlier line is skipped. A line holds the player, the time and the splits to the
+ * millisecond, which two different runs practically never share. The snapshot file is only rewritten once the
+ * journal holds runs, so a leaderboard file without a journal, e.g. of an older version, is left as it is.</p>
+ *
+ * <p>Both files store one run per line, in the format of the leaderboard file. A run only counts once its line
+ * terminator has been written, so a last line without one, torn by a crash in the middle of an append, is dropped
+ * on startup instead of being read as a run with a truncated time.</p>
+ *
+ * <p>If writing fails, e.g. because the disk is full, the writer keeps running: it closes the journal, waits and
+ * retries the failed batch on a reopened journal, until it succeeds. Runs appended twice by a retry are skipped
+ * on replay like any other duplicate.</p>
+ */
+class LeaderboardJournal {
+
+    private final Logger logger = Bukkit.getLogger();
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long RETRY_DELAY_SECONDS = 5;
+    private static final int COMPACTION_INTERVAL = 32;
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Function<LeaderboardManager.RunEntry, String> format;
+    private final Consumer<LeaderboardSnapshot> onSnapshot;
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    // Only accessed by the writer, once started
+    private final LeaderboardIndex leaderboard;
+    private FileChannel journal;
+    private int appendedSinceCompaction;
+    private int replayed;
+
+    // Metrics
+    @Getter private final AtomicLong appended = new AtomicLong();
+    @Getter private final AtomicLong syncs = new AtomicLong();
+    @Getter private final AtomicLong compactions = new AtomicLong();
+    @Getter private final AtomicLong failures = new AtomicLong();
+    // Whether the last batch failed to be written, until a retry succeeds
+    @Getter private volatile boolean failing;
+
+    // A finished run
+    private static final class Write {
+        private final LeaderboardManager.RunEntry entry;
+
+        private Write(LeaderboardManager.RunEntry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private static final Write COMPACT = new Write(null);
+    private static final Write STOP = new Write(null);
+
+    /**
+     * Constructs the journal, its writer is started once the leaderboard has been read.
+     *
+     * @param snapshotFile the file of the sorted snapshot
+     * @param journalFile  the file of the journal
+     * @param order        the order of the leaderboard, fastest first
+     * @param format       formats a run as a line
+     * @param onSnapshot   receives each snapshot published by the writer
+     */
+    LeaderboardJournal(
+            Path snapshotFile,
+            Path journalFile,
+            Comparator<LeaderboardManager.RunEntry> order,
+            Function<LeaderboardManager.RunEntry, String> format,
+            Consumer<LeaderboardSnapshot> onSnapshot
+    ) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.format = format;
+        this.onSnapshot = onSnapshot;
+        this.leaderboard = new LeaderboardIndex(order);
+        this.writer = new Thread(this::write, "SRP-Leaderboard");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Reads the lines of the snapshot followed by those of the journal, on the calling thread, skipping journal lines
+     * which were already read.
+     *
+     * <p>Only called on startup, before the writer is started.</p>
+     *
+     * @return the lines, in the order they were written
+     */
+    List<String> read() {
+        List<String> lines = new ArrayList<>();
+        readInto(snapshotFile, lines);
+
+        List<String> journaled = new ArrayList<>();
+        readInto(journalFile, journaled);
+        Set<String> seen = new HashSet<>(lines);
+        for (String line : journaled) {
+            if (seen.add(line)) lines.add(line);
+        }
+        replayed = journaled.size();
+        return lines;
+    }
+
+    /**
+     * Starts the writer from the leaderboard read on startup, which it compacts the journal into first, if any.
+     *
+     * @param entries the runs, fastest first
+     */
+    void start(List<LeaderboardManager.RunEntry> entries) {
+        entries.forEach(leaderboard::insert);
+        if (replayed > 0) queue.add(COMPACT);
+        writer.start();
+    }
+
+    /**
+     * Queues a finished run to be applied to the published snapshot and appended to the journal.
+     *
+     * @param entry the finished run
+     */
+    void append(LeaderboardManager.RunEntry entry) {
+        queue.add(new Write(entry));
+    }
+
+    /**
+     * Stops the writer once everything queued has been written and compacted.
+     */
+    void shutdown() {
+        queue.add(STOP);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* ==========================================================
+     *                      Writer
+     * ========================================================== */
+    private void write() {
+        List<Write> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+
+                // Nothing is queued after the writer is stopped
+                boolean stopping = batch.get(batch.size() - 1) == STOP;
+                apply(batch);
+
+                // Retry the whole batch until it is written, the queue keeps collecting runs in the meantime
+                while (true) {
+                    try {
+                        writeBatch(batch, stopping);
+                        failing = false;
+                        break;
+                    } catch (IOException e) {
+                        failures.incrementAndGet();
+                        failing = true;
+                        logger.warning("[SRP] Error while writing the leaderboard journal, retrying in "
+                                + RETRY_DELAY_SECONDS + "s: " + e.getMessage());
+                        close();
+
+                        // Give up on shutdown rather than holding up the server
+                        if (stopping) return;
+                        TimeUnit.SECONDS.sleep(RETRY_DELAY_SECONDS);
+                    }
+                }
+
+                if (stopping) {
+                    close();
+                    return;
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        }
+    }
+
+    // Applies the runs of a batch to the sorted copy, once, and publishes a snapshot of it
+    private void apply(List<Write> batch) {
+        boolean changed = false;
+        for (Write write : batch) {
+            if (write.entry == null) continue;
+
+            leaderboard.insert(write.entry);
+            changed = true;
+        }
+        if (changed) onSnapshot.accept(LeaderboardSnapshot.of(leaderboard.toList()));
+    }
+
+    // Writes a batch, syncing it once, and compacts the journal if due
+    private void writeBatch(List<Write> batch, boolean stopping) throws IOException {
+        if (journal == null) open();
+
+        boolean compact = false;
+        boolean unsynced = false;
+        for (Write write : batch) {
+            if (write == COMPACT) compact = true;
+            if (write.entry == null) continue;
+
+            appendLine(format.apply(write.entry));
+            unsynced = true;
+        }
+        sync(unsynced);
+
+        // On shutdown, including the runs appended by this batch
+        if (stopping && appendedSinceCompaction > 0) compact = true;
+        if (compact || appendedSinceCompaction >= COMPACTION_INTERVAL) replaceSnapshot();
+    }
+
+    private void open() throws IOException {
+        // A failed append may have left a partial line behind, which the retried runs must not be glued onto
+        if (Files.exists(journalFile)) truncateTornLine(journalFile, Files.readAllBytes(journalFile));
+        journal = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void close() {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException ignored) {
+            // Reopened on the next write
+        }
+        journal = null;
+    }
+
+    private void appendLine(String line) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(line + System.lineSeparator());
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        appended.incrementAndGet();
+        appendedSinceCompaction++;
+    }
+
+    private void sync(boolean unsynced) throws IOException {
+        if (!unsynced) return;
+        journal.force(false);
+        syncs.incrementAndGet();
+    }
+
+    private void replaceSnapshot() {
+        StringBuilder snapshot = new StringBuilder();
+        for (LeaderboardManager.RunEntry entry : leaderboard.toList()) {
+            snapshot.append(format.apply(entry)).append(System.lineSeparator());
+        }
+
+        Path temporary = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(snapshot.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            logger.warning("[SRP] Error while writing the leaderboard: " + e.getMessage());
+            return;
+        }
+
+        // Only truncate the journal once the snapshot containing its runs is in place
+        try {
+            Files.move(temporary, snapshotFile,
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journal.truncate(0);
+            journal.force(true);
+            appendedSinceCompaction = 0;
+            compactions.incrementAndGet();
+        } catch (IOException e) {
+            logger.warning("[SRP] Error while compacting the leaderboard journal: " + e.getMessage());
+        }
+    }
+
+    /* ==========================================================
+     *                      Helpers
+     * ========================================================== */
+    private void readInto(Path file, List<String> lines) {
+        if (!Files.exists(file)) return;
+        try {
+            byte[] content = Files.readAllBytes(file);
+            int end = truncateTornLine(file, content);
+            new String(content, 0, end, StandardCharsets.UTF_8).lines().forEach(lines::add);
+        } catch (IOException e) {
+            logger.warning("[SRP] Error while trying to load leaderboard: " + e.getMessage());
+        }
+    }
+
+    // Truncates the file after its last complete line, returns the length of its complete lines
+    private int truncateTornLine(Path file, byte[] content) throws IOException {
+        // The newline byte never occurs within a multibyte character
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') end--;
+        if (end < content.length) {
+            logger.warning("[SRP] Dropping a partially written run from " + file.getFileName());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        return end;
+    }
+}
@@ -2,6 +2,8 @@ package com.fx.srp.managers.util;
 
 import com.fx.srp.SpeedRunPlus;
 import com.fx.srp.config.ConfigHandler;
+import com.fx.srp.model.run.Milestone;
+import com.fx.srp.model.run.Speedrun;
 import com.fx.srp.util.time.TimeFormatter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -17,7 +19,6 @@ import org.bukkit.inventory.meta.SkullMeta;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -28,8 +29,15 @@ import java.util.stream.Collectors;
  * <p>This manager tracks completed runs, stores them in a file, sorts them by completion
  * time, and updates an in-game podium using Armor Stands to display player heads and times.</p>
  *
- * <p>The leaderboard stores a maximum of 10 entries and automatically updates the
- * podium positions in the configured world.</p>
+ * <p>The leaderboard stores every finished run and automatically updates the podium positions in the
+ * configured world with the configured maximum of entries.</p>
+ *
+ * <p>The runs are kept in a {@link LeaderboardIndex}, a finished run is inserted and ranked in logarithmic time,
+ * next to a map of the personal best of every player. Finished runs are persisted by the {@link LeaderboardJournal}
+ * in the background, which every so often compacts them into the sorted leaderboard file, so finishing a run does
+ * not wait on the disk. Leaderboard commands are served from an immutable {@link LeaderboardSnapshot}, which the
+ * journal's writer builds from its own copy of the leaderboard, so the main thread never copies the whole
+ * leaderboard after startup.</p>
  */
 public class LeaderboardManager {
 
@@ -37,10 +45,18 @@ public class LeaderboardManager {
     private final ConfigHandler configHandler = ConfigHandler.getInstance();
     private final SpeedRunPlus plugin;
 
+    private static final Comparator<RunEntry> ORDER =
+            Comparator.<RunEntry>comparingLong(e -> e.time).thenComparingLong(e -> e.sequence);
+
     private final File dataFile;
-    private final List<RunEntry> leaderboard = new ArrayList<>();
+    private final LeaderboardJournal journal;
+    private final LeaderboardIndex leaderboard = new LeaderboardIndex(ORDER);
+    private final Map<UUID, RunEntry> personalBests = new HashMap<>();
+    private volatile LeaderboardSnapshot snapshot = LeaderboardSnapshot.of(List.of());
+    private long sequence;
 
     private static final String PODIUM_TAG = "srp_podium";
+    private static final String JOURNAL_FILE = "leaderboard.journal";
 
     /**
      * Represents a completed run entry for the leaderboard.
@@ -49,6 +65,8 @@ public class LeaderboardManager {
         public String playerName;
         public UUID playerUUID;
         public long time; // milliseconds
+        public long[] splits; // milliseconds per milestone, or null if not recorded
+        private long sequence; // order of insertion, breaks ties between equal times
 
         /**
          * Constructs a new {@code RunEntry}.
@@ -56,11 +74,14 @@ public class LeaderboardManager {
          * @param playerName the name of the player
          * @param playerUUID the UUID of the player
          * @param time       the completion time in milliseconds
+         * @param splits     the split times in milliseconds, indexed by {@link Milestone#ordinal()}, may be
+         *                   {@code null}
          */
-        public RunEntry(String playerName, UUID playerUUID, long time) {
+        public RunEntry(String playerName, UUID playerUUID, long time, long[] splits) {
             this.playerName = playerName;
             this.playerUUID = playerUUID;
             this.time = time;
+            this.splits = splits;
         }
     }
 
@@ -72,7 +93,18 @@ public class LeaderboardManager {
     public LeaderboardManager(SpeedRunPlus plugin) {
         this.plugin = plugin;
         this.dataFile = new File(plugin.getDataFolder(), "leaderboard.yml");
-        loadLeaderboard();
+
+        // Cannot load nor create leaderboard directories / file
+        boolean available = createLeaderboardFileIfNotPresent(dataFile);
+        this.journal = new LeaderboardJournal(
+                dataFile.toPath(),
+                new File(plugin.getDataFolder(), JOURNAL_FILE).toPath(),
+                ORDER,
+                this::format,
+                published -> snapshot = published
+        );
+        if (available) loadLeaderboard();
+        journal.start(leaderboard.toList());
         updatePodium();
     }
 
@@ -81,12 +113,102 @@ public class LeaderboardManager {
      *
      * @param player the player completing the run
      * @param time   the completion time in milliseconds
+     * @param splits the split times in milliseconds, indexed by {@link Milestone#ordinal()}, may be {@code null}
+     * @return the one-based rank of the run among all finished runs
      */
-    public void finishRun(Player player, long time) {
-        leaderboard.add(new RunEntry(player.getName(), player.getUniqueId(), time));
-        sortLeaderboard();
-        saveLeaderboard();
-        updatePodium();
+    public int finishRun(Player player, long time, long[] splits) {
+        RunEntry entry = new RunEntry(player.getName(), player.getUniqueId(), time, splits);
+        add(entry);
+
+        // Persist and publish the new snapshot in the background
+        journal.append(entry);
+
+        // Only rebuild the podium if the run made it onto the podium
+        int rank = leaderboard.rank(entry);
+        if (rank < getPodiumSize()) updatePodium();
+        return rank + 1;
+    }
+
+    /**
+     * Returns whether a time would be a new personal best of a player.
+     *
+     * @param playerUUID the UUID of the player
+     * @param time       the completion time in milliseconds
+     * @return {@code true} if the player has no faster or equal run yet
+     */
+    public boolean isPersonalBest(UUID playerUUID, long time) {
+        RunEntry best = personalBests.get(playerUUID);
+        return best == null || time < best.time;
+    }
+
+    /**
+     * Returns the latest snapshot of the leaderboard, which may be read from any thread.
+     *
+     * @return the {@link LeaderboardSnapshot}
+     */
+    public LeaderboardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Compacts the journal into the leaderboard file and stops its writer, once everything has been written.
+     */
+    public void shutdown() {
+        journal.shutdown();
+    }
+
+    /**
+     * Returns the number of entries on the leaderboard.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return leaderboard.size();
+    }
+
+    /**
+     * Returns the number of finished runs appended to the journal.
+     *
+     * @return the number of journaled runs
+     */
+    public long getJournaledRuns() {
+        return journal.getAppended().get();
+    }
+
+    /**
+     * Returns the number of times the journal was synced to the disk.
+     *
+     * @return the number of syncs
+     */
+    public long getJournalSyncs() {
+        return journal.getSyncs().get();
+    }
+
+    /**
+     * Returns the number of times the journal was compacted into the leaderboard file.
+     *
+     * @return the number of compactions
+     */
+    public long getCompactions() {
+        return journal.getCompactions().get();
+    }
+
+    /**
+     * Returns the number of times writing the journal failed and was retried.
+     *
+     * @return the number of failed writes
+     */
+    public long getJournalFailures() {
+        return journal.getFailures().get();
+    }
+
+    /**
+     * Returns whether the journal currently fails to be written, finished runs are kept queued until it recovers.
+     *
+     * @return {@code true} if the last write failed
+     */
+    public boolean isJournalFailing() {
+        return journal.isFailing();
     }
 
     /**
@@ -97,10 +219,9 @@ public class LeaderboardManager {
     }
 
     /**
-     * Load the podium re-creating armor stands from the leaderboard file
+     * Load the podium re-creating armor stands from the leaderboard, which matches the leaderboard file
      */
     public void loadPodium() {
-        loadLeaderboard();
         updatePodium();
     }
 
@@ -108,39 +229,58 @@ public class LeaderboardManager {
      *                      Helpers
      * ========================================================== */
     private void loadLeaderboard() {
-        // Cannot load nor create leaderboard directories / file
-        if (!createLeaderboardFileIfNotPresent(dataFile)) return;
-
-        try {
-            List<String> lines = Files.readAllLines(dataFile.toPath());
-            leaderboard.clear();
-            for (String line : lines) {
-                String[] parts = line.split(",");
-                int expectedSize = 3;
-                if (parts.length == expectedSize) {
-                    leaderboard.add(new RunEntry(parts[0], UUID.fromString(parts[1]), Long.parseLong(parts[2])));
-                }
+        // Replay the journal on top of the leaderboard file, runs already compacted into it are skipped by the journal
+        for (String line : journal.read()) {
+            String[] parts = line.split(",");
+            // Entries recorded before splits were tracked have no splits
+            int expectedSize = 3;
+            if (parts.length != expectedSize && parts.length != expectedSize + 1) continue;
+
+            try {
+                long[] splits = parts.length > expectedSize ? parseSplits(parts[expectedSize]) : null;
+                add(new RunEntry(parts[0], UUID.fromString(parts[1]), Long.parseLong(parts[2]), splits));
+            } catch (IllegalArgumentException e) {
+                // A run only partially written to the journal
+                logger.warning("[SRP] Skipping malformed leaderboard entry: " + line);
             }
-            sortLeaderboard();
-        }
-        catch (IOException e) {
-            this.logger.warning("[SRP] Error while trying to load leaderboard: " + e.getMessage());
         }
+        snapshot = LeaderboardSnapshot.of(leaderboard.toList());
     }
 
-    private void saveLeaderboard() {
-        List<String> lines = leaderboard.stream()
-                .map(e -> e.playerName + "," + e.playerUUID + "," + e.time)
-                .collect(Collectors.toList());
-        try {
-            Files.write(dataFile.toPath(), lines);
-        } catch (IOException e) {
-            this.logger.warning("[SRP] Error while saving leaderboard: " + e.getMessage());
+    // Indexes every run, and keeps track of the personal best of each player
+    private void add(RunEntry entry) {
+        entry.sequence = sequence++;
+        leaderboard.insert(entry);
+        if (isPersonalBest(entry.playerUUID, entry.time)) personalBests.put(entry.playerUUID, entry);
+    }
+
+    private int getPodiumSize() {
+        return Math.min(configHandler.getPodiumPositions().size(), configHandler.getLeaderboardMaxEntries());
+    }
+
+    private String format(RunEntry entry) {
+        return entry.playerName + "," + entry.playerUUID + "," + entry.time +
+                (entry.splits == null ? "" : "," + formatSplits(entry.splits));
+    }
+
+    // Splits are stored as their times separated by semicolons, in milestone order
+    private String formatSplits(long[] splits) {
+        return Arrays.stream(splits).mapToObj(String::valueOf).collect(Collectors.joining(";"));
+    }
+
+    private long[] parseSplits(String value) {
+        long[] splits = new long[Milestone.values().length];
+        Arrays.fill(splits, Speedrun.NOT_REACHED);
+
+        String[] times = value.split(";");
+        for (int i = 0; i < Math.min(times.length, splits.length); i++) {
+            splits[i] = Long.parseLong(times[i]);
         }
+        return splits;
     }
 
     private void updatePodium() {
-        if (leaderboard.isEmpty()) {
+        if (leaderboard.size() == 0) {
             return;
         }
 
@@ -148,21 +288,17 @@ public class LeaderboardManager {
         List<Location> locations = new ArrayList<>(configHandler.getPodiumPositions().values());
         World world = configHandler.getPodiumWorld();
 
+        List<RunEntry> entries = new ArrayList<>();
+        for (int i = 0; i < Math.min(leaderboard.size(), getPodiumSize()); i++) {
+            entries.add(leaderboard.get(i));
+        }
         Bukkit.getScheduler().runTask(plugin, () -> {
-            int count = Math.min(leaderboard.size(), locations.size());
-            for (int i = 0; i < count; i++) {
-                createPodiumEntry(leaderboard.get(i), locations.get(i), world);
+            for (int i = 0; i < entries.size(); i++) {
+                createPodiumEntry(entries.get(i), locations.get(i), world);
             }
         });
     }
 
-    private void sortLeaderboard() {
-        leaderboard.sort(Comparator.comparingLong(e -> e.time));
-        if (leaderboard.size() > configHandler.getLeaderboardMaxEntries()) {
-            leaderboard.subList(configHandler.getLeaderboardMaxEntries(), leaderboard.size()).clear();
-        }
-    }
-
     private boolean createLeaderboardFileIfNotPresent(File file) {
         try {
             File parent = file.getParentFile();
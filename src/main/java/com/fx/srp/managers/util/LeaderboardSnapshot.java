@@ -0,0 +1,92 @@
+package com.fx.srp.managers.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An immutable snapshot of the leaderboard: every finished run, fastest first.
+ *
+ * <p>Snapshots are published by the writer of the {@link LeaderboardJournal} after the leaderboard changed, they may
+ * be read from any thread, e.g. to serve leaderboard commands.</p>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LeaderboardSnapshot {
+
+    private final List<LeaderboardManager.RunEntry> entries;
+    private final Map<UUID, Integer> ranks;
+
+    /**
+     * Creates a snapshot of the given entries.
+     *
+     * @param entries the runs, fastest first
+     * @return the snapshot
+     */
+    static LeaderboardSnapshot of(List<LeaderboardManager.RunEntry> entries) {
+        // The first run of a player is their personal best
+        Map<UUID, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ranks.putIfAbsent(entries.get(i).playerUUID, i);
+        }
+        return new LeaderboardSnapshot(List.copyOf(entries), Collections.unmodifiableMap(ranks));
+    }
+
+    /**
+     * Returns the number of ranked runs.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of pages of the given size.
+     *
+     * @param pageSize the number of entries per page
+     * @return the number of pages, at least one
+     */
+    public int getPageCount(int pageSize) {
+        return Math.max(1, (entries.size() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Returns a page of entries.
+     *
+     * @param page     the one-based page
+     * @param pageSize the number of entries per page
+     * @return the entries of the page, empty if the page is out of bounds
+     */
+    public List<LeaderboardManager.RunEntry> getPage(int page, int pageSize) {
+        int from = (page - 1) * pageSize;
+        if (page < 1 || from >= entries.size()) return Collections.emptyList();
+        return entries.subList(from, Math.min(from + pageSize, entries.size()));
+    }
+
+    /**
+     * Returns the rank of a player's personal best among all runs.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the one-based rank, or {@code -1} if the player has not finished a run
+     */
+    public int getRank(UUID playerUUID) {
+        Integer rank = ranks.get(playerUUID);
+        return rank == null ? -1 : rank + 1;
+    }
+
+    /**
+     * Returns the personal best of a player.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the entry, or {@code null} if the player has not finished a run
+     */
+    public LeaderboardManager.RunEntry getPersonalBest(UUID playerUUID) {
+        Integer rank = ranks.get(playerUUID);
+        return rank == null ? null : entries.get(rank);
+    }
+}
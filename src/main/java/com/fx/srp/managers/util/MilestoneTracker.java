@@ -0,0 +1,107 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.model.player.Speedrunner;
+import com.fx.srp.model.run.Milestone;
+import com.fx.srp.model.run.Speedrun;
+import com.fx.srp.util.time.TimeFormatter;
+import lombok.NoArgsConstructor;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+
+/**
+ * Tracks the milestones of running speedruns and records them as splits of the run.
+ *
+ * <p>The milestones are detected from events the listeners already observe: changing between the worlds of a
+ * {@link WorldManager.WorldSet} marks entering the nether, the blind travel back to the overworld and entering
+ * the end. Standing on nether bricks in the nether marks the fortress, an ender signal diving down or an eye placed
+ * into an end portal frame marks the stronghold.</p>
+ *
+ * <p>The tracker is only accessed from the main server thread.</p>
+ */
+@NoArgsConstructor
+public class MilestoneTracker {
+
+    private final WorldRegistry worldRegistry = WorldRegistry.getINSTANCE();
+
+    /**
+     * Records the milestone of a speedrunner changing between the worlds of their world set.
+     *
+     * @param run         the run of the speedrunner
+     * @param speedrunner the speedrunner who changed worlds
+     * @param from        the world the speedrunner left
+     */
+    public void onWorldChange(Speedrun run, Speedrunner speedrunner, World from) {
+        WorldManager.WorldSet worldSet = speedrunner.getWorldSet();
+        WorldRegistry.Entry to = worldRegistry.get(speedrunner.getPlayer().getWorld());
+        if (worldSet == null || to == null || to.getWorldSet() != worldSet) return;
+
+        switch (to.getDimension()) {
+            case NETHER:
+                record(run, speedrunner, Milestone.NETHER_ENTRY);
+                break;
+            case THE_END:
+                record(run, speedrunner, Milestone.END_ENTRY);
+                break;
+            default:
+                if (worldRegistry.isDimension(from, worldSet, World.Environment.NETHER)) {
+                    record(run, speedrunner, Milestone.BLIND_TRAVEL);
+                }
+        }
+    }
+
+    /**
+     * Records the fortress milestone once a speedrunner steps onto nether bricks in their nether.
+     *
+     * @param run         the run of the speedrunner
+     * @param speedrunner the speedrunner who moved
+     * @param from        the location moved from
+     * @param to          the location moved to
+     */
+    public void onMove(Speedrun run, Speedrunner speedrunner, Location from, Location to) {
+        // Only check once per block moved
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ()) return;
+
+        if (!worldRegistry.isDimension(to.getWorld(), speedrunner.getWorldSet(), World.Environment.NETHER)) return;
+        if (run.isMilestoneReached(speedrunner, Milestone.FORTRESS)) return;
+
+        // Nether bricks only generate in fortresses
+        if (to.getBlock().getRelative(BlockFace.DOWN).getType() == Material.NETHER_BRICKS) {
+            record(run, speedrunner, Milestone.FORTRESS);
+        }
+    }
+
+    /**
+     * Records a milestone of a speedrunner, if their run is running.
+     *
+     * @param run         the run of the speedrunner
+     * @param speedrunner the speedrunner who reached the milestone
+     * @param milestone   the milestone reached
+     */
+    public void record(Speedrun run, Speedrunner speedrunner, Milestone milestone) {
+        if (run.getState() != Speedrun.State.RUNNING) return;
+        run.recordMilestone(speedrunner, milestone);
+    }
+
+    /**
+     * Formats split times for display, e.g. once a run is finished.
+     *
+     * @param times the split times, indexed by {@link Milestone#ordinal()}
+     * @return the formatted splits, or {@code null} if no milestone was reached
+     */
+    public static String formatSplits(long[] times) {
+        StringBuilder builder = new StringBuilder();
+        for (Milestone milestone : Milestone.values()) {
+            long time = times[milestone.ordinal()];
+            if (time == Speedrun.NOT_REACHED) continue;
+
+            if (builder.length() > 0) builder.append(ChatColor.DARK_GRAY).append(" | ");
+            builder.append(ChatColor.GRAY).append(milestone.getDisplayName()).append(' ')
+                    .append(ChatColor.WHITE).append(new TimeFormatter(time).withHours().format());
+        }
+        return builder.length() == 0 ? null : builder.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.fx.srp.managers.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds frozen players in place, e.g. during countdowns and resets.
+ *
+ * <p>Frozen players are kept in a map by UUID, which movement handlers check before anything else, and which only
+ * holds the players frozen right now. Each frozen player is held at an anchor: the position they were frozen at,
+ * moved along with any teleport. As the anchor is always the player's own position, its chunks are loaded. Moves
+ * are not cancelled: only moves that actually leave the anchor are corrected, with a single teleport back to it,
+ * turning the head or falling onto the ground is allowed. Jumping is corrected like any other move upwards.</p>
+ *
+ * <p>Provides a singleton instance accessible via {@link #getINSTANCE()}. The freezer is only accessed from the
+ * main server thread, its metrics may be read from any thread.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlayerFreezer {
+
+    @Getter private static final PlayerFreezer INSTANCE = new PlayerFreezer();
+
+    // Anchors of the frozen players
+    private final Map<UUID, Anchor> anchors = new HashMap<>();
+
+    // Metrics
+    @Getter private final AtomicLong freezes = new AtomicLong();
+    @Getter private final AtomicLong corrections = new AtomicLong();
+    private final AtomicLong maxCorrections = new AtomicLong();
+
+    private static class Anchor {
+        private Location location;
+        private int corrections;
+
+        private Anchor(Location location) {
+            this.location = location;
+        }
+    }
+
+    /**
+     * Freezes a player at their current position, does nothing if already frozen.
+     *
+     * @param player the player to freeze
+     */
+    public void freeze(Player player) {
+        if (anchors.containsKey(player.getUniqueId())) return;
+
+        anchors.put(player.getUniqueId(), new Anchor(player.getLocation()));
+        freezes.incrementAndGet();
+    }
+
+    /**
+     * Unfreezes a player, does nothing if not frozen.
+     *
+     * @param player the player to unfreeze
+     */
+    public void unfreeze(Player player) {
+        Anchor anchor = anchors.remove(player.getUniqueId());
+        if (anchor == null) return;
+
+        maxCorrections.accumulateAndGet(anchor.corrections, Math::max);
+    }
+
+    /**
+     * Checks whether a player is frozen.
+     *
+     * @param player the player
+     * @return {@code true} if the player is frozen
+     */
+    public boolean isFrozen(Player player) {
+        return !anchors.isEmpty() && anchors.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Holds a frozen player at their anchor.
+     *
+     * <p>A move starting away from the anchor means the player was teleported, which moves the anchor along. A move
+     * leaving the anchor is corrected back to it, keeping the direction the player is looking at.</p>
+     *
+     * @param event the movement event of a frozen player
+     */
+    public void hold(PlayerMoveEvent event) {
+        Anchor anchor = anchors.get(event.getPlayer().getUniqueId());
+        if (anchor == null) return;
+
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (!isSamePosition(from, anchor.location)) anchor.location = from.clone();
+
+        Location location = anchor.location;
+        if (to.getX() == location.getX() && to.getZ() == location.getZ() && to.getWorld() == location.getWorld()) {
+            // Turning the head or falling is fine
+            if (to.getY() <= location.getY()) {
+                location.setY(to.getY());
+                return;
+            }
+        }
+
+        Location corrected = location.clone();
+        corrected.setYaw(to.getYaw());
+        corrected.setPitch(to.getPitch());
+        event.setTo(corrected);
+
+        anchor.corrections++;
+        corrections.incrementAndGet();
+    }
+
+    /**
+     * Returns the average number of corrections sent per freeze.
+     *
+     * @return the average number of corrections
+     */
+    public double getAverageCorrectionsPerFreeze() {
+        long count = freezes.get();
+        return count == 0 ? 0 : corrections.get() / (double) count;
+    }
+
+    /**
+     * Returns the highest number of corrections sent during a single, finished freeze.
+     *
+     * @return the highest number of corrections
+     */
+    public long getMaxCorrections() {
+        return maxCorrections.get();
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private boolean isSamePosition(Location a, Location b) {
+        return a.getWorld() == b.getWorld() && a.getX() == b.getX() && a.getY() == b.getY() && a.getZ() == b.getZ();
+    }
+}
@@ -0,0 +1,287 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.commands.GameMode;
+import com.fx.srp.model.requests.PendingRequest;
+import lombok.Getter;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Brokers the pending requests of the multiplayer game modes, e.g. battle requests and coop invites or duels.
+ *
+ * <p>Pending requests are indexed both by their target and by their sender, so that a player can only have one
+ * pending request of either kind, checked with a single lookup. Their expiry, and that of anything else waiting on
+ * players such as accepted coops, is driven by a single timing wheel advancing once per second instead of a
+ * scheduled task per request. The wheel only runs while anything is waiting to expire.</p>
+ *
+ * <p>The broker is only accessed from the main server thread, its metrics may be read from any thread.</p>
+ */
+public class RequestBroker {
+
+    private static final long RESOLUTION_TICKS = 20L;
+    private static final long RESOLUTION_MILLIS = RESOLUTION_TICKS * 50L;
+    private static final int WHEEL_SIZE = 64;
+
+    private final SpeedRunPlus plugin;
+
+    // Pending requests
+    private final Map<UUID, PendingRequest> requestsByTarget = new HashMap<>();
+    private final Map<UUID, PendingRequest> requestsBySender = new HashMap<>();
+
+    // Timing wheel, slots are created on first use
+    @SuppressWarnings("unchecked")
+    private final List<Expiry>[] wheel = new List[WHEEL_SIZE];
+    private long tick;
+    private int waiting;
+    private BukkitTask task;
+
+    // Metrics
+    @Getter private final AtomicLong opened = new AtomicLong();
+    @Getter private final AtomicLong accepted = new AtomicLong();
+    @Getter private final AtomicLong declined = new AtomicLong();
+    @Getter private final AtomicLong expired = new AtomicLong();
+    @Getter private final AtomicLong cancelled = new AtomicLong();
+
+    /**
+     * A scheduled expiry, which can be cancelled until it expired.
+     */
+    public final class Expiry {
+        private final Runnable onExpire;
+        private final long deadline;
+        private boolean done;
+
+        private Expiry(Runnable onExpire, long deadline) {
+            this.onExpire = onExpire;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the expiry, does nothing if it already expired or was cancelled.
+         */
+        public void cancel() {
+            if (done) return;
+            done = true;
+            release();
+        }
+    }
+
+    /**
+     * Constructs a new {@link RequestBroker}.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public RequestBroker(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+    }
+
+    /* ==========================================================
+     *                       REQUESTS
+     * ========================================================== */
+    /**
+     * Retrieves the pending request sent to a player.
+     *
+     * @param target the UUID of the player
+     * @return the {@link PendingRequest}, or {@code null} if there is none
+     */
+    public PendingRequest getRequestTo(UUID target) {
+        return requestsByTarget.get(target);
+    }
+
+    /**
+     * Retrieves the pending request sent to a player for a game mode.
+     *
+     * @param target   the UUID of the player
+     * @param gameMode the game mode of the request
+     * @return the {@link PendingRequest}, or {@code null} if there is none for the game mode
+     */
+    public PendingRequest getRequestTo(UUID target, GameMode gameMode) {
+        PendingRequest request = requestsByTarget.get(target);
+        return request != null && request.getGameMode() == gameMode ? request : null;
+    }
+
+    /**
+     * Checks whether a player has sent a request that is still pending.
+     *
+     * @param sender the UUID of the player
+     * @return {@code true} if the player has a pending request
+     */
+    public boolean hasRequestBy(UUID sender) {
+        return requestsBySender.containsKey(sender);
+    }
+
+    /**
+     * Opens a pending request, expiring after the given time.
+     *
+     * <p>Replaces any request pending for the same target or sent by the same sender.</p>
+     *
+     * @param request  the request to open
+     * @param timeout  the time in milliseconds until the request expires
+     * @param onExpire invoked once the request expired
+     */
+    public void open(PendingRequest request, long timeout, Runnable onExpire) {
+        remove(requestsByTarget.get(request.getTargetUUID()));
+        remove(requestsBySender.get(request.getPlayerUUID()));
+
+        requestsByTarget.put(request.getTargetUUID(), request);
+        requestsBySender.put(request.getPlayerUUID(), request);
+        request.setExpiry(schedule(timeout, () -> {
+            remove(request);
+            expired.incrementAndGet();
+            onExpire.run();
+        }));
+        opened.incrementAndGet();
+    }
+
+    /**
+     * Accepts the pending request sent to a player for a game mode, removing it.
+     *
+     * <p>A request for another game mode is left pending.</p>
+     *
+     * @param target   the UUID of the player accepting
+     * @param gameMode the game mode of the request
+     * @return the accepted {@link PendingRequest}, or {@code null} if there is none for the game mode
+     */
+    public PendingRequest accept(UUID target, GameMode gameMode) {
+        PendingRequest request = remove(getRequestTo(target, gameMode));
+        if (request != null) accepted.incrementAndGet();
+        return request;
+    }
+
+    /**
+     * Declines the pending request sent to a player for a game mode, removing it.
+     *
+     * <p>A request for another game mode is left pending.</p>
+     *
+     * @param target   the UUID of the player declining
+     * @param gameMode the game mode of the request
+     * @return the declined {@link PendingRequest}, or {@code null} if there is none for the game mode
+     */
+    public PendingRequest decline(UUID target, GameMode gameMode) {
+        PendingRequest request = remove(getRequestTo(target, gameMode));
+        if (request != null) declined.incrementAndGet();
+        return request;
+    }
+
+    /**
+     * Cancels the pending request sent to a player, e.g. when it can no longer be accepted.
+     *
+     * @param target the UUID of the player the request was sent to
+     */
+    public void cancel(UUID target) {
+        if (remove(requestsByTarget.get(target)) != null) cancelled.incrementAndGet();
+    }
+
+    /**
+     * Cancels the pending requests sent to and by a player, e.g. when they leave.
+     *
+     * @param player the UUID of the player
+     */
+    public void cancelAll(UUID player) {
+        if (remove(requestsByTarget.get(player)) != null) cancelled.incrementAndGet();
+        if (remove(requestsBySender.get(player)) != null) cancelled.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of pending requests.
+     *
+     * @return the number of pending requests
+     */
+    public int getPending() {
+        return requestsByTarget.size();
+    }
+
+    /* ==========================================================
+     *                       EXPIRY
+     * ========================================================== */
+    /**
+     * Schedules a task to be run once the given time has passed, on the main server thread.
+     *
+     * @param delay    the time in milliseconds, rounded up to whole seconds
+     * @param onExpire the task to run
+     * @return the {@link Expiry}, to cancel it
+     */
+    public Expiry schedule(long delay, Runnable onExpire) {
+        long deadline = tick + Math.max(1L, (delay + RESOLUTION_MILLIS - 1) / RESOLUTION_MILLIS);
+        Expiry expiry = new Expiry(onExpire, deadline);
+
+        int slot = (int) (deadline % WHEEL_SIZE);
+        if (wheel[slot] == null) wheel[slot] = new ArrayList<>();
+        wheel[slot].add(expiry);
+
+        if (waiting++ == 0) start();
+        return expiry;
+    }
+
+    /**
+     * Cancels all scheduled expiries without running them, e.g. when the plugin is disabled.
+     */
+    public void shutdown() {
+        for (List<Expiry> bucket : wheel) {
+            if (bucket != null) bucket.forEach(Expiry::cancel);
+        }
+        requestsByTarget.clear();
+        requestsBySender.clear();
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private PendingRequest remove(PendingRequest request) {
+        if (request == null) return null;
+
+        requestsByTarget.remove(request.getTargetUUID(), request);
+        requestsBySender.remove(request.getPlayerUUID(), request);
+        if (request.getExpiry() != null) request.getExpiry().cancel();
+        return request;
+    }
+
+    private void start() {
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                advance();
+            }
+        }.runTaskTimer(plugin, RESOLUTION_TICKS, RESOLUTION_TICKS);
+    }
+
+    private void release() {
+        if (--waiting > 0 || task == null) return;
+        task.cancel();
+        task = null;
+    }
+
+    private void advance() {
+        tick++;
+        List<Expiry> bucket = wheel[(int) (tick % WHEEL_SIZE)];
+        if (bucket == null || bucket.isEmpty()) return;
+
+        // Expiries due now are dropped from the bucket, later ones (further rounds) are kept
+        List<Expiry> due = new ArrayList<>();
+        int kept = 0;
+        for (Expiry expiry : bucket) {
+            if (expiry.done) continue;
+            if (expiry.deadline > tick) {
+                bucket.set(kept++, expiry);
+            } else {
+                due.add(expiry);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+
+        // Run them after the bucket is settled, as they may schedule further expiries
+        for (Expiry expiry : due) {
+            if (expiry.done) continue;
+            expiry.done = true;
+            release();
+            expiry.onExpire.run();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.config.ConfigHandler;
+import org.bukkit.World;
+
+/**
+ * Lightweight settings applied to every speedrun world right after it is created.
+ *
+ * <p>Speedrun worlds are thrown away at the end of a run, so they neither need to keep their spawn in memory nor
+ * to be saved periodically. The view distance and spawn limits can be lowered to reduce the per-world tick cost.
+ * All settings are applied within the tick the world is created in, before any player enters it.</p>
+ *
+ * <p>The view distance of a single world can only be set on Paper, elsewhere the server's view distance is kept.
+ * Entity activation ranges are not exposed by the API, they are configured per world name in
+ * {@code spigot.yml}, so speedrun worlds use its {@code default} section.</p>
+ */
+public class RunWorldProfile {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+    private final boolean viewDistanceSupported = isViewDistanceAvailable();
+
+    /**
+     * Applies the configured profile to a freshly created speedrun world.
+     *
+     * @param world the world to apply the profile to
+     */
+    public void apply(World world) {
+        world.setKeepSpawnInMemory(configHandler.isRunWorldKeepSpawnInMemory());
+        world.setAutoSave(configHandler.isRunWorldAutoSave());
+
+        // Values below zero (or zero for the view distance) keep the server's default
+        int viewDistance = configHandler.getRunWorldViewDistance();
+        if (viewDistance > 0 && viewDistanceSupported) world.setViewDistance(viewDistance);
+
+        int monsters = configHandler.getRunWorldMonsterSpawnLimit();
+        if (monsters >= 0) world.setMonsterSpawnLimit(monsters);
+        int animals = configHandler.getRunWorldAnimalSpawnLimit();
+        if (animals >= 0) world.setAnimalSpawnLimit(animals);
+        int waterAnimals = configHandler.getRunWorldWaterAnimalSpawnLimit();
+        if (waterAnimals >= 0) world.setWaterAnimalSpawnLimit(waterAnimals);
+        int ambient = configHandler.getRunWorldAmbientSpawnLimit();
+        if (ambient >= 0) world.setAmbientSpawnLimit(ambient);
+    }
+
+    private static boolean isViewDistanceAvailable() {
+        try {
+            World.class.getMethod("setViewDistance", int.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
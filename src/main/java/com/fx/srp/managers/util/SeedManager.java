@@ -157,6 +157,17 @@ public class SeedManager {
      * corresponding SeedType.
      */
     public SelectedSeed selectSeedWithType() {
+        SeedCategory.SeedType seedType = selectSeedType();
+        if (seedType == null) return null;
+        return new SelectedSeed(selectSeed(seedType), seedType);
+    }
+
+    /**
+     * Rolls a seed type based on the configured category weights, without picking a seed.
+     *
+     * @return the selected {@link SeedCategory.SeedType}, or {@code null} if no category is selectable
+     */
+    public SeedCategory.SeedType selectSeedType() {
         if (seedCategories.isEmpty() || totalSeedWeight < 1) return null;
 
         int weightRoll = ThreadLocalRandom.current().nextInt(totalSeedWeight);
@@ -164,24 +175,52 @@ public class SeedManager {
 
         for (SeedCategory category : seedCategories) {
             cumulativeWeight += category.getWeight();
+            if (weightRoll < cumulativeWeight) return category.getSeedType();
+        }
 
-            if (weightRoll < cumulativeWeight) {
-                // If RANDOM category selected, return null seed but mark type RANDOM
-                if (category.getSeedType() == SeedCategory.SeedType.RANDOM) {
-                    logger.info("[SRP] Picked seed category: RANDOM");
-                    return new SelectedSeed(null, SeedCategory.SeedType.RANDOM);
-                }
-
-                List<Long> seeds = category.getSeeds();
-                final int seedRoll = ThreadLocalRandom.current().nextInt(seeds.size());
-                Long seed = seeds.get(seedRoll);
+        return null;
+    }
 
-                logger.info("[SRP] Picked seed category: " + category.getSeedType().name() + ", seed: " + seed);
-                return new SelectedSeed(seed, category.getSeedType());
-            }
+    /**
+     * Picks a random seed from the given category.
+     *
+     * @param seedType the category to pick a seed from
+     * @return a seed of the given category, or {@code null} for RANDOM or when the category has no seeds
+     */
+    public Long selectSeed(SeedCategory.SeedType seedType) {
+        // If RANDOM category selected, return null seed
+        if (seedType == SeedCategory.SeedType.RANDOM) {
+            logger.info("[SRP] Picked seed category: RANDOM");
+            return null;
         }
 
-        return null;
+        SeedCategory category = seedCategories.stream()
+                .filter(c -> c.getSeedType() == seedType)
+                .findFirst()
+                .orElse(null);
+        if (category == null || category.getSeeds().isEmpty()) return null;
+
+        List<Long> seeds = category.getSeeds();
+        final int seedRoll = ThreadLocalRandom.current().nextInt(seeds.size());
+        Long seed = seeds.get(seedRoll);
+
+        logger.info("[SRP] Picked seed category: " + seedType.name() + ", seed: " + seed);
+        return seed;
+    }
+
+    /**
+     * Returns the seed types that can be rolled by {@link #selectSeedType()}.
+     *
+     * <p>When no category carries any weight, only {@link SeedCategory.SeedType#RANDOM} is returned.</p>
+     *
+     * @return the list of selectable seed types
+     */
+    public List<SeedCategory.SeedType> getSelectableSeedTypes() {
+        if (totalSeedWeight < 1) return List.of(SeedCategory.SeedType.RANDOM);
+        return seedCategories.stream()
+                .filter(c -> c.getWeight() > 0)
+                .map(SeedCategory::getSeedType)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -0,0 +1,114 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teleports players without blocking the main thread on chunk loads.
+ *
+ * <p>On Paper, teleports use {@code teleportAsync}, which loads the destination chunks asynchronously before
+ * moving the player. On other servers, teleports fall back to the synchronous {@link Player#teleport(Location)}.
+ * Either way the returned futures complete on the main thread, so follow-up steps can safely touch the player.</p>
+ */
+public class TeleportService {
+
+    private final SpeedRunPlus plugin;
+    private final boolean asyncSupported;
+
+    // Metrics
+    @Getter private final AtomicLong asyncTeleports = new AtomicLong();
+    @Getter private final AtomicLong syncTeleports = new AtomicLong();
+    @Getter private final AtomicLong failedTeleports = new AtomicLong();
+    private final AtomicLong totalAsyncNanos = new AtomicLong();
+
+    /**
+     * Constructs a new {@link TeleportService}, detecting whether asynchronous teleports are available.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public TeleportService(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+        this.asyncSupported = isTeleportAsyncAvailable();
+        if (!asyncSupported) {
+            Bukkit.getLogger().info("[SRP] Asynchronous teleports are not available, falling back to synchronous ones");
+        }
+    }
+
+    /**
+     * Teleports a player.
+     *
+     * @param player   the player to teleport
+     * @param location the destination
+     * @return a future completing on the main thread with whether the teleport succeeded, it never fails
+     */
+    public CompletableFuture<Boolean> teleport(Player player, Location location) {
+        if (!asyncSupported) {
+            syncTeleports.incrementAndGet();
+            boolean success = player.teleport(location);
+            if (!success) failedTeleports.incrementAndGet();
+            return CompletableFuture.completedFuture(success);
+        }
+
+        asyncTeleports.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> teleported = new CompletableFuture<>();
+        player.teleportAsync(location).whenComplete((success, error) -> {
+            Runnable complete = () -> {
+                totalAsyncNanos.addAndGet(System.nanoTime() - start);
+                boolean succeeded = error == null && Boolean.TRUE.equals(success);
+                if (!succeeded) failedTeleports.incrementAndGet();
+                teleported.complete(succeeded);
+            };
+
+            // Follow-up steps run on the main thread
+            if (Bukkit.isPrimaryThread()) complete.run();
+            else Bukkit.getScheduler().runTask(plugin, complete);
+        });
+        return teleported;
+    }
+
+    /**
+     * Teleports several players at once.
+     *
+     * @param destinations the destination of each player
+     * @return a future completing on the main thread once every teleport has finished, it never fails
+     */
+    public CompletableFuture<Void> teleportAll(Map<Player, Location> destinations) {
+        CompletableFuture<?>[] teleports = destinations.entrySet().stream()
+                .map(destination -> teleport(destination.getKey(), destination.getValue()))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(teleports);
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the average time between requesting an asynchronous teleport and its completion.
+     *
+     * @return the average latency in milliseconds
+     */
+    public double getAverageAsyncMillis() {
+        long count = asyncTeleports.get();
+        return count == 0 ? 0 : totalAsyncNanos.get() / (double) count / 1_000_000d;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private static boolean isTeleportAsyncAvailable() {
+        try {
+            Player.class.getMethod("teleportAsync", Location.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
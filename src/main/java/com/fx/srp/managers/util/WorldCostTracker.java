@@ -0,0 +1,186 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Samples the tick cost of speedrun worlds, to compare {@link RunWorldProfile}s.
+ *
+ * <p>The server does not expose how long each world takes to tick, so the drivers of that cost are sampled
+ * instead: loaded chunks, entities and tile entities of every speedrun world, along with the server's average
+ * tick time while speedrun worlds are loaded. Samples are aggregated per dimension.</p>
+ *
+ * <p>These counts and the tick time are only exposed by Paper, elsewhere nothing is sampled.</p>
+ *
+ * <p>The tracker is only accessed from the main server thread.</p>
+ */
+public class WorldCostTracker {
+
+    private final SpeedRunPlus plugin;
+    @Getter private final boolean samplingSupported;
+
+    private static final long SAMPLE_INTERVAL_TICKS = 100L;
+
+    private final Set<String> trackedWorlds = new HashSet<>();
+    private final Map<World.Environment, Cost> costs = new EnumMap<>(World.Environment.class);
+    private BukkitTask sampleTask;
+
+    // Server tick time while speedrun worlds are loaded
+    private long tickTimeSamples;
+    private double totalTickTimeMillis;
+
+    /**
+     * Aggregated samples of the speedrun worlds of one dimension.
+     */
+    @Getter
+    public static class Cost {
+        private long samples;
+        private long chunks;
+        private long entities;
+        private long tileEntities;
+
+        /**
+         * Returns the average number of loaded chunks per world.
+         *
+         * @return the average loaded chunks
+         */
+        public double getAverageChunks() {
+            return samples == 0 ? 0 : chunks / (double) samples;
+        }
+
+        /**
+         * Returns the average number of entities per world.
+         *
+         * @return the average entities
+         */
+        public double getAverageEntities() {
+            return samples == 0 ? 0 : entities / (double) samples;
+        }
+
+        /**
+         * Returns the average number of tile entities per world.
+         *
+         * @return the average tile entities
+         */
+        public double getAverageTileEntities() {
+            return samples == 0 ? 0 : tileEntities / (double) samples;
+        }
+    }
+
+    /**
+     * Constructs a new {@link WorldCostTracker}.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public WorldCostTracker(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+        this.samplingSupported = isSamplingAvailable();
+    }
+
+    /**
+     * Starts sampling a speedrun world.
+     *
+     * @param world the created world
+     */
+    public void track(World world) {
+        trackedWorlds.add(world.getName());
+
+        // Only sample while there are worlds to sample
+        if (sampleTask == null && samplingSupported) {
+            sampleTask = Bukkit.getScheduler().runTaskTimer(
+                    plugin,
+                    this::sample,
+                    SAMPLE_INTERVAL_TICKS,
+                    SAMPLE_INTERVAL_TICKS
+            );
+        }
+    }
+
+    /**
+     * Stops sampling a speedrun world, e.g. before it is unloaded.
+     *
+     * @param name the name of the world
+     */
+    public void untrack(String name) {
+        trackedWorlds.remove(name);
+        if (trackedWorlds.isEmpty()) stop();
+    }
+
+    /**
+     * Stops sampling altogether.
+     */
+    public void stop() {
+        if (sampleTask != null) sampleTask.cancel();
+        sampleTask = null;
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the aggregated samples of the speedrun worlds of a dimension.
+     *
+     * @param environment the dimension
+     * @return the aggregated cost, empty if no world of the dimension has been sampled
+     */
+    public Cost getCost(World.Environment environment) {
+        return costs.getOrDefault(environment, new Cost());
+    }
+
+    /**
+     * Returns the number of speedrun worlds currently being sampled.
+     *
+     * @return the number of tracked worlds
+     */
+    public int getTrackedWorlds() {
+        return trackedWorlds.size();
+    }
+
+    /**
+     * Returns the server's average tick time while speedrun worlds were loaded.
+     *
+     * @return the average tick time in milliseconds
+     */
+    public double getAverageTickTimeMillis() {
+        return tickTimeSamples == 0 ? 0 : totalTickTimeMillis / tickTimeSamples;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void sample() {
+        for (String name : trackedWorlds) {
+            World world = Bukkit.getWorld(name);
+            if (world == null) continue;
+
+            Cost cost = costs.computeIfAbsent(world.getEnvironment(), environment -> new Cost());
+            cost.samples++;
+            cost.chunks += world.getChunkCount();
+            cost.entities += world.getEntityCount();
+            cost.tileEntities += world.getTileEntityCount();
+        }
+
+        tickTimeSamples++;
+        totalTickTimeMillis += Bukkit.getAverageTickTime();
+    }
+
+    private static boolean isSamplingAvailable() {
+        try {
+            World.class.getMethod("getChunkCount");
+            World.class.getMethod("getEntityCount");
+            World.class.getMethod("getTileEntityCount");
+            Bukkit.class.getMethod("getAverageTickTime");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
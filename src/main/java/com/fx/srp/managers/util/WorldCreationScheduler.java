@@ -0,0 +1,185 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.config.ConfigHandler;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Spreads world creation over ticks under a per-tick time budget.
+ *
+ * <p>A creation request is split into steps, typically one world each, which are executed in order on the main
+ * thread. Concurrent requests are interleaved round-robin, one step at a time, so simultaneous run starts share
+ * the budget fairly instead of creating every world in a single tick. A single step cannot be split, so at least
+ * one step runs per tick even if it exceeds the budget on its own.</p>
+ *
+ * <p>If a step fails, the remaining steps of its request are dropped and the failure is handed to the request, so
+ * that the caller can clean up after the steps that did run.</p>
+ *
+ * <p>Requests are submitted from the main thread, metrics may be read from any thread.</p>
+ */
+public class WorldCreationScheduler {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+    private final SpeedRunPlus plugin;
+
+    private final Deque<Request> requests = new ArrayDeque<>();
+    private BukkitTask task;
+
+    // Metrics
+    @Getter private final AtomicInteger queuedSteps = new AtomicInteger();
+    @Getter private final AtomicLong completedSteps = new AtomicLong();
+    @Getter private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * A creation request with its remaining steps.
+     */
+    private static class Request {
+        private final Deque<Runnable> steps;
+        private final Runnable onComplete;
+        private final Consumer<RuntimeException> onFailure;
+        private long readySince = System.nanoTime();
+
+        private Request(List<Runnable> steps, Runnable onComplete, Consumer<RuntimeException> onFailure) {
+            this.steps = new ArrayDeque<>(steps);
+            this.onComplete = onComplete;
+            this.onFailure = onFailure;
+        }
+    }
+
+    /**
+     * Constructs a new {@link WorldCreationScheduler}.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public WorldCreationScheduler(SpeedRunPlus plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queues a creation request. Must be called on the main thread.
+     *
+     * @param steps      the steps to execute in order, on separate ticks if the budget is exceeded
+     * @param onComplete invoked on the main thread right after the last step, may be {@code null}
+     * @param onFailure  invoked on the main thread instead if a step failed, may be {@code null}
+     */
+    public void submit(List<Runnable> steps, Runnable onComplete, Consumer<RuntimeException> onFailure) {
+        if (steps.isEmpty()) {
+            if (onComplete != null) onComplete.run();
+            return;
+        }
+
+        requests.addLast(new Request(steps, onComplete, onFailure));
+        queuedSteps.addAndGet(steps.size());
+
+        // Only tick while there is work
+        if (task == null) task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops executing steps, queued requests are dropped.
+     */
+    public void shutdown() {
+        if (task != null) task.cancel();
+        task = null;
+        requests.clear();
+        queuedSteps.set(0);
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the number of requests with steps left.
+     *
+     * @return the number of pending requests
+     */
+    public int getPendingRequests() {
+        return requests.size();
+    }
+
+    /**
+     * Returns the average time a step waited in the queue before it was executed.
+     *
+     * @return the average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long count = completedSteps.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / (double) count / 1_000_000d;
+    }
+
+    /**
+     * Returns the longest time a step waited in the queue before it was executed.
+     *
+     * @return the longest wait in milliseconds
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000d;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void tick() {
+        long budgetNanos = configHandler.getWorldCreationTickBudgetNanos();
+        long tickStart = System.nanoTime();
+
+        do {
+            Request request = requests.pollFirst();
+            if (request == null) break;
+            runStep(request);
+
+            // Round-robin, the request queues up again behind the other requests
+            if (!request.steps.isEmpty()) requests.addLast(request);
+        } while (System.nanoTime() - tickStart < budgetNanos);
+
+        if (requests.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void runStep(Request request) {
+        long waitNanos = System.nanoTime() - request.readySince;
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+        try {
+            request.steps.pollFirst().run();
+        } catch (RuntimeException e) {
+            Bukkit.getLogger().warning("[SRP] World creation step failed: " + e.getMessage());
+            queuedSteps.addAndGet(-request.steps.size());
+            request.steps.clear();
+            failedRequests.incrementAndGet();
+            complete(() -> {
+                if (request.onFailure != null) request.onFailure.accept(e);
+            });
+            return;
+        } finally {
+            queuedSteps.decrementAndGet();
+            completedSteps.incrementAndGet();
+            request.readySince = System.nanoTime();
+        }
+
+        if (request.steps.isEmpty() && request.onComplete != null) complete(request.onComplete);
+    }
+
+    // A failing callback must not take down the scheduler task, and with it every other request
+    private void complete(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            Bukkit.getLogger().warning("[SRP] World creation callback failed: " + e.getMessage());
+        }
+    }
+}
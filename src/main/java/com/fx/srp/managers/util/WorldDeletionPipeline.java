@@ -0,0 +1,181 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.config.ConfigHandler;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Deletes unloaded speedrun world folders in the background.
+ *
+ * <p>A world folder is first atomically renamed into a tombstone directory, which is cheap enough to do on the
+ * main thread and frees the world name immediately. The tombstone is then deleted recursively by a single, bounded
+ * worker thread under a configurable I/O rate limit. Tombstones that could not be deleted (e.g. the server stopped
+ * first) are picked up again on the next start.</p>
+ */
+public class WorldDeletionPipeline {
+
+    private final Logger logger = Bukkit.getLogger();
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    private static final String TOMBSTONE_DIRECTORY = ".srp-tombstones";
+    private static final int MAX_QUEUED_DELETIONS = 256;
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path tombstoneDirectory;
+    private final ThreadPoolExecutor worker;
+
+    // Rate limiting (worker thread only)
+    private long windowStart = System.nanoTime();
+    private long windowBytes;
+
+    // Metrics
+    @Getter private final AtomicInteger pendingTombstones = new AtomicInteger();
+    @Getter private final AtomicLong deletedTombstones = new AtomicLong();
+    @Getter private final AtomicLong deletedBytes = new AtomicLong();
+
+    /**
+     * Constructs the pipeline, storing tombstones inside the server's world container.
+     */
+    public WorldDeletionPipeline() {
+        this.tombstoneDirectory = Bukkit.getWorldContainer().toPath().resolve(TOMBSTONE_DIRECTORY);
+        this.worker = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_DELETIONS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "SRP-WorldDeletion");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * Renames an unloaded world folder into the tombstone directory and queues it for deletion.
+     *
+     * @param worldFolder the folder of a world that is no longer loaded
+     * @return {@code true} if the folder was moved into the tombstone directory
+     */
+    public boolean tombstone(File worldFolder) {
+        Path source = worldFolder.toPath();
+        if (!Files.exists(source)) return false;
+
+        try {
+            Files.createDirectories(tombstoneDirectory);
+            Path tombstone = tombstoneDirectory.resolve(worldFolder.getName() + "-" + System.nanoTime());
+            Files.move(source, tombstone, StandardCopyOption.ATOMIC_MOVE);
+            enqueue(tombstone);
+            return true;
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to tombstone world folder " + source + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Queues every tombstone left behind by a previous session for deletion.
+     */
+    public void recoverTombstones() {
+        if (!Files.isDirectory(tombstoneDirectory)) return;
+
+        try (Stream<Path> tombstones = Files.list(tombstoneDirectory)) {
+            tombstones.forEach(this::enqueue);
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to list leftover tombstones: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the worker, remaining tombstones are deleted on the next start.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private void enqueue(Path tombstone) {
+        // Counted before it is queued, the worker may finish deleting it before execute returns
+        pendingTombstones.incrementAndGet();
+        try {
+            worker.execute(() -> delete(tombstone));
+        } catch (RejectedExecutionException e) {
+            pendingTombstones.decrementAndGet();
+            logger.warning("[SRP] Deletion queue is full, " + tombstone + " will be deleted on the next start");
+        }
+    }
+
+    private void delete(Path tombstone) {
+        try {
+            Files.walkFileTree(tombstone, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    Files.delete(file);
+                    deletedBytes.addAndGet(attributes.size());
+                    throttle(attributes.size());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException error) throws IOException {
+                    if (error != null) throw error;
+                    Files.delete(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            deletedTombstones.incrementAndGet();
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to delete tombstone " + tombstone + ": " + e.getMessage());
+        } finally {
+            pendingTombstones.decrementAndGet();
+        }
+    }
+
+    private void throttle(long bytes) throws IOException {
+        long bytesPerSecond = configHandler.getWorldDeletionBytesPerSecond();
+        if (bytesPerSecond <= 0) return;
+
+        // Start a new window once the previous one has passed
+        if (System.nanoTime() - windowStart >= RATE_WINDOW_NANOS) {
+            windowStart = System.nanoTime();
+            windowBytes = 0;
+        }
+
+        windowBytes += bytes;
+        if (windowBytes < bytesPerSecond) return;
+
+        // Budget for this window is used up, wait for the window to end
+        long remaining = RATE_WINDOW_NANOS - (System.nanoTime() - windowStart);
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while deleting", e);
+            }
+        }
+        windowStart = System.nanoTime();
+        windowBytes = 0;
+    }
+}
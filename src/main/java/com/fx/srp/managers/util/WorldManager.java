@@ -6,21 +6,41 @@ import com.fx.srp.model.player.Speedrunner;
 import com.onarandombox.MultiverseCore.api.MVWorldManager;
 import com.onarandombox.MultiverseCore.api.MultiverseWorld;
 import com.onarandombox.MultiverseNetherPortals.MultiverseNetherPortals;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Difficulty;
 import org.bukkit.PortalType;
 import org.bukkit.World;
+import org.bukkit.WorldBorder;
 import org.bukkit.WorldType;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 import com.fx.srp.model.seed.SeedCategory;
 
 /**
@@ -31,12 +51,17 @@ import com.fx.srp.model.seed.SeedCategory;
  * and End world linked together. It also ensures leftover worlds from previous sessions
  * are cleaned up on plugin initialization.</p>
  *
+ * <p>Worlds are deleted in two steps: a cheap unload and unregister on the main thread, after which
+ * their folders are handed to the {@link WorldDeletionPipeline} for deletion in the background.</p>
+ *
  * <p>Main responsibilities:</p>
  * <ul>
  *     <li>Create world sets for one or more players with optional seeds.</li>
  *     <li>Delete world sets for speedrunners and clean up resources.</li>
  *     <li>Link and unlink worlds for proper portal traversal.</li>
  *     <li>Ensure unique world names to prevent collisions.</li>
+ *     <li>Keep a {@link WorldPool} of pre-created world sets, refilled while the server is idle.</li>
+ *     <li>Create the nether and end lazily, ahead of or on their first portal use.</li>
  * </ul>
  */
 public class WorldManager {
@@ -47,31 +72,91 @@ public class WorldManager {
     private final MVWorldManager mvWorldManager;
     private final MultiverseNetherPortals portalManager;
     private final SeedManager seedManager;
+    private final ChunkPregenerator chunkPregenerator;
+    @Getter private final WorldDeletionPipeline deletionPipeline;
+    @Getter private final WorldTemplateCache templateCache;
+    @Getter private final WorldCreationScheduler creationScheduler;
+    @Getter private final WorldCostTracker costTracker;
+    @Getter private final TeleportService teleportService;
+    private final RunWorldProfile runWorldProfile = new RunWorldProfile();
+
+    // Warm standby pool
+    private static final String POOL_WORLD_ID = "pool-";
+    @Getter private final WorldPool worldPool = new WorldPool();
+    private final AtomicInteger pendingCreations = new AtomicInteger();
+    private boolean poolRefillInProgress;
+    private BukkitTask poolRefillTask;
+    // The server's TPS is only exposed by Paper, elsewhere the pool is refilled regardless of the TPS
+    private final boolean tpsAvailable = isTpsAvailable();
+
+    // World names handed out to world sets, including dimensions that have not been created yet
+    private final Set<String> reservedWorldNames = new HashSet<>();
+
+    // World sets by the UIDs of their created worlds
+    private final WorldRegistry worldRegistry = WorldRegistry.getINSTANCE();
 
     /**
      * Represents a player's set of worlds: Overworld, Nether, End.
      * Provides the spawn location for teleportation purposes.
+     *
+     * <p>With lazy worlds enabled, only the overworld exists initially. The nether and end names are reserved up
+     * front, while the worlds themselves are created on demand, so {@link #getNether()} and {@link #getEnd()}
+     * return {@code null} until then.</p>
      */
     @Getter
     public static class WorldSet {
         private final MultiverseWorld overworld;
-        private final MultiverseWorld nether;
-        private final MultiverseWorld end;
+        private final String netherName;
+        private final String endName;
+        private final String seed;
         private final Location spawn;
+        private MultiverseWorld nether;
+        private MultiverseWorld end;
+
+        // Chunks generated in any of the worlds after they were created
+        private final AtomicLong generatedChunks = new AtomicLong();
+
+        @Getter(AccessLevel.NONE) private final boolean captureTemplates;
+        // Dimensions queued for creation in the background, until they are created
+        @Getter(AccessLevel.NONE) private final Set<World.Environment> requested =
+                EnumSet.noneOf(World.Environment.class);
+        @Getter(AccessLevel.NONE) private final Set<World.Environment> copying =
+                EnumSet.noneOf(World.Environment.class);
+        @Getter(AccessLevel.NONE) private boolean deleted;
+        @Getter(AccessLevel.NONE) private CompletableFuture<Void> templatesCaptured =
+                CompletableFuture.completedFuture(null);
 
         /**
-         * Constructs a set of worlds with a default spawn point.
+         * Constructs a set of worlds with a default spawn point, whose nether and end are created later.
          *
-         * @param overworld The {@code MultiverseWorld} overworld.
-         * @param nether The {@code MultiverseWorld} nether.
-         * @param end The {@code MultiverseWorld} end.
+         * @param overworld        The {@code MultiverseWorld} overworld.
+         * @param netherName       The reserved name of the nether.
+         * @param endName          The reserved name of the end.
+         * @param seed             The seed the worlds are created from.
+         * @param captureTemplates Whether created worlds are cached in the {@link WorldTemplateCache}.
          */
-        public WorldSet(MultiverseWorld overworld, MultiverseWorld nether, MultiverseWorld end) {
+        public WorldSet(
+                MultiverseWorld overworld,
+                String netherName,
+                String endName,
+                String seed,
+                boolean captureTemplates
+        ) {
             this.overworld = overworld;
-            this.nether = nether;
-            this.end = end;
+            this.netherName = netherName;
+            this.endName = endName;
+            this.seed = seed;
+            this.captureTemplates = captureTemplates;
             this.spawn = overworld.getSpawnLocation();
         }
+
+        private MultiverseWorld getWorld(World.Environment environment) {
+            return environment == World.Environment.NETHER ? nether : end;
+        }
+
+        private String getWorldName(World.Environment environment) {
+            return environment == World.Environment.NETHER ? netherName : endName;
+        }
     }
 
     /**
@@ -87,8 +172,47 @@ public class WorldManager {
         // Seed manager
         this.seedManager = seedManager;
 
+        // Spawn chunk pre-generation
+        this.chunkPregenerator = new ChunkPregenerator(plugin);
+
+        // Background world deletion
+        this.deletionPipeline = new WorldDeletionPipeline();
+
+        // Tick-budgeted world creation
+        this.creationScheduler = new WorldCreationScheduler(plugin);
+
+        // Cached region files of previously generated seeds
+        this.templateCache = new WorldTemplateCache(plugin);
+
+        // Tick cost of the speedrun worlds
+        this.costTracker = new WorldCostTracker(plugin);
+
+        // Teleports without blocking on chunk loads
+        this.teleportService = new TeleportService(plugin);
+
         // Cleanup leftover worlds
         cleanupLeftoverSrpWorlds();
+
+        // Keep the world pool filled
+        if (configHandler.isWorldPoolEnabled()) {
+            long interval = configHandler.getWorldPoolRefillInterval();
+            poolRefillTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refillPool, interval, interval);
+        }
+    }
+
+    /**
+     * Stops the background refilling of the world pool, queued world creation, the world template cache and the
+     * background world deletion.
+     *
+     * <p>Pooled worlds and pending tombstones are left in place and removed as leftovers on the next start.</p>
+     */
+    public void shutdown() {
+        if (poolRefillTask != null) poolRefillTask.cancel();
+        poolRefillTask = null;
+        creationScheduler.shutdown();
+        costTracker.stop();
+        templateCache.shutdown();
+        deletionPipeline.shutdown();
     }
 
     /* ==========================================================
@@ -101,62 +225,151 @@ public class WorldManager {
      * @param inputSeed Optional world seed.
      * @param callback  Callback executed when all worlds are ready. Receives a map
      *                  linking each player's UUID to their WorldSet.
+     * @param onFailure Callback executed instead if a world could not be created, the world sets created so far
+     *                  have been deleted.
      * <p><br>If the given seed is null and the config 'use-filtered-seeds' is set, a weighted pseudo-random filtered
      * seed (for speedrun purposes) will be selected.
      * If 'use-filtered-seeds' is not set, seed generation is left to be handled by Minecraft.</p>
+     * <p>World sets are claimed from the {@link WorldPool} when it holds enough sets for the selected seed type
+     * (or given seed), otherwise they are created on demand, one after another, from the {@link WorldTemplateCache}
+     * where possible. Later world sets sharing the seed wait for the templates of the first one.</p>
      */
     public void createWorldsForPlayers(
             Collection<Player> players,
             Long inputSeed,
-            BiConsumer<Map<UUID, WorldSet>, SeedCategory.SeedType> callback
+            BiConsumer<Map<UUID, WorldSet>, SeedCategory.SeedType> callback,
+            Runnable onFailure
     ) {
         Map<UUID, WorldSet> sets = new ConcurrentHashMap<>();
-        AtomicInteger done = new AtomicInteger(0);
         int total = players.size();
 
-        // Determine the seed and its originating type
-        Long seed = inputSeed;
-        SeedCategory.SeedType seedType;
+        // Determine the originating type of the seed
+        SeedCategory.SeedType seedType = SeedCategory.SeedType.RANDOM;
         if (inputSeed == null) {
-            SeedManager.SelectedSeed sel = seedManager.selectSeedWithType();
-            if (sel != null) {
-                seed = sel.getSeed();
-                seedType = sel.getSeedType();
-            } else {
-                seedType = SeedCategory.SeedType.RANDOM;
+            SeedCategory.SeedType selectedType = seedManager.selectSeedType();
+            if (selectedType != null) seedType = selectedType;
+        }
+
+        // Claim pre-created worlds from the pool if possible
+        List<WorldSet> pooled = claimFromPool(seedType, inputSeed, total);
+        if (pooled != null) {
+            List<Player> participants = new ArrayList<>(players);
+            for (int i = 0; i < total; i++) {
+                sets.put(participants.get(i).getUniqueId(), pooled.get(i));
             }
-        } else {
-            seedType = SeedCategory.SeedType.RANDOM;
+
+            SeedCategory.SeedType pooledSeedType = seedType;
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(sets, pooledSeedType));
+            return;
         }
 
+        // Determine the seed
+        Long seed = inputSeed == null ? seedManager.selectSeed(seedType) : inputSeed;
+
         // If no seed was selected (RANDOM), generate a single random seed so all players
         // in this creation call get the same world seed instead of different random seeds.
         if (seed == null) seed = ThreadLocalRandom.current().nextLong();
         String seedString = String.valueOf(seed);
+        SeedCategory.SeedType createdSeedType = seedType;
+
+        boolean captureTemplates = shouldCaptureTemplates(seedType, inputSeed != null);
+
+        pendingCreations.addAndGet(total);
+        createWorldSetsInOrder(
+                new ArrayList<>(players).iterator(),
+                seedString,
+                captureTemplates,
+                sets,
+                () -> callback.accept(sets, createdSeedType),
+                onFailure
+        );
+    }
 
-        for (Player player : players) {
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                WorldSet set = createWorldSet(player, seedString);
-
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    sets.put(player.getUniqueId(), set);
+    private void createWorldSetsInOrder(
+            Iterator<Player> players,
+            String seed,
+            boolean captureTemplates,
+            Map<UUID, WorldSet> sets,
+            Runnable onComplete,
+            Runnable onFailure
+    ) {
+        Player player = players.next();
+        createWorldSet(player.getUniqueId().toString(), seed, captureTemplates, worldSet -> {
+            sets.put(player.getUniqueId(), worldSet);
+            pendingCreations.decrementAndGet();
+
+            // Players only join once the templates have been copied, they would modify the chunks meanwhile
+            if (!players.hasNext()) {
+                worldSet.templatesCaptured.thenRun(() -> Bukkit.getScheduler().runTask(plugin, onComplete));
+                return;
+            }
 
-                    if (done.incrementAndGet() == total) {
-                        callback.accept(sets, seedType);
-                    }
-                });
-            });
-        }
+            // The next world set is created from the templates of this one
+            worldSet.templatesCaptured.thenRun(() -> Bukkit.getScheduler().runTask(plugin, () ->
+                    createWorldSetsInOrder(players, seed, captureTemplates, sets, onComplete, onFailure)
+            ));
+        }, () -> {
+            // Neither this nor the remaining world sets are created any more
+            int remaining = 1;
+            for (; players.hasNext(); players.next()) remaining++;
+            pendingCreations.addAndGet(-remaining);
+
+            // Without all of its world sets the run cannot start
+            sets.values().forEach(this::deleteWorldSet);
+            sets.clear();
+            onFailure.run();
+        });
     }
 
-    private WorldSet createWorldSet(Player player, String seed) {
+    private void createWorldSet(
+            String id,
+            String seed,
+            boolean captureTemplates,
+            Consumer<WorldSet> callback,
+            Runnable onFailure
+    ) {
         // Determine world names
-        UUID uuid = player.getUniqueId();
-        String overworldName = getWorldName(configHandler.getOverworldPrefix() + uuid);
-        String netherName = getWorldName(configHandler.getNetherPrefix() + uuid);
-        String endName = getWorldName(configHandler.getEndPrefix() + uuid);
+        String overworldName = getWorldName(configHandler.getOverworldPrefix() + id);
+        String netherName = getWorldName(configHandler.getNetherPrefix() + id);
+        String endName = getWorldName(configHandler.getEndPrefix() + id);
+
+        // The nether and end are only created up front without lazy worlds
+        boolean lazy = configHandler.isLazyWorldsEnabled();
+        Map<World.Environment, String> worldNames = new EnumMap<>(World.Environment.class);
+        worldNames.put(World.Environment.NORMAL, overworldName);
+        if (!lazy) {
+            worldNames.put(World.Environment.NETHER, netherName);
+            worldNames.put(World.Environment.THE_END, endName);
+        }
+
+        // Copy cached region files into the world folders before the worlds are loaded
+        // then create each world as a separate step of the creation scheduler
+        templateCache.restore(seed, worldNames).thenRun(() -> Bukkit.getScheduler().runTask(plugin, () -> {
+            AtomicReference<WorldSet> worldSet = new AtomicReference<>();
+            List<Runnable> steps = new ArrayList<>(3);
+            steps.add(() -> {
+                MultiverseWorld overworld = createOverworld(overworldName, seed);
+                worldSet.set(new WorldSet(overworld, netherName, endName, seed, captureTemplates));
+                onWorldCreated(worldSet.get(), overworld);
+            });
+            if (!lazy) {
+                steps.add(() -> createDimension(worldSet.get(), World.Environment.NETHER));
+                steps.add(() -> createDimension(worldSet.get(), World.Environment.THE_END));
+            }
+            creationScheduler.submit(steps, () -> callback.accept(worldSet.get()), e -> {
+                // Remove the worlds created before the failing step and release the reserved names
+                if (worldSet.get() != null) {
+                    deleteWorldSet(worldSet.get());
+                } else {
+                    unloadAndTombstone(overworldName);
+                }
+                reservedWorldNames.removeAll(List.of(overworldName, netherName, endName));
+                onFailure.run();
+            });
+        }));
+    }
 
-        // Overworld
+    private MultiverseWorld createOverworld(String overworldName, String seed) {
         mvWorldManager.addWorld(
                 overworldName,
                 World.Environment.NORMAL,
@@ -168,47 +381,281 @@ public class WorldManager {
         MultiverseWorld overworld = mvWorldManager.getMVWorld(overworldName);
         // Ensure difficulty is set to EASY
         if (Bukkit.getWorld(overworldName) != null) Bukkit.getWorld(overworldName).setDifficulty(Difficulty.EASY);
+        return overworld;
+    }
+
+    private void createDimension(WorldSet worldSet, World.Environment environment) {
+        String name = worldSet.getWorldName(environment);
+        String overworldName = worldSet.overworld.getName();
 
-        // Nether
         mvWorldManager.addWorld(
-                netherName,
-                World.Environment.NETHER,
-                seed,
+                name,
+                environment,
+                worldSet.seed,
                 WorldType.NORMAL,
                 true,
                 null
         );
-        MultiverseWorld nether = mvWorldManager.getMVWorld(netherName);
-        if (Bukkit.getWorld(netherName) != null) Bukkit.getWorld(netherName).setDifficulty(Difficulty.EASY);
-        nether.setRespawnToWorld(overworldName);
+        MultiverseWorld world = mvWorldManager.getMVWorld(name);
+        if (world == null) {
+            Bukkit.getLogger().warning("[SRP] Failed to create world: " + name);
+            return;
+        }
+        if (Bukkit.getWorld(name) != null) Bukkit.getWorld(name).setDifficulty(Difficulty.EASY);
+        world.setRespawnToWorld(overworldName);
 
-        // End
-        mvWorldManager.addWorld(
-                endName,
-                World.Environment.THE_END,
-                seed,
-                WorldType.NORMAL,
-                true,
-                null
+        // Link the dimension to the overworld
+        if (environment == World.Environment.NETHER) {
+            worldSet.nether = world;
+            linkWorlds(overworldName, name, PortalType.NETHER);
+        } else {
+            worldSet.end = world;
+            linkWorlds(overworldName, name, PortalType.ENDER);
+        }
+
+        // No longer pending, its name is released along with the world set
+        worldSet.requested.remove(environment);
+
+        onWorldCreated(worldSet, world);
+    }
+
+    private void onWorldCreated(WorldSet worldSet, MultiverseWorld world) {
+        World bukkitWorld = world.getCBWorld();
+
+        // Cache the generated area first, before any player enters the world and before the profile may stop it
+        // from being saved
+        if (worldSet.captureTemplates) {
+            worldSet.templatesCaptured = CompletableFuture.allOf(
+                    worldSet.templatesCaptured,
+                    templateCache.capture(worldSet.seed, bukkitWorld, templateCenter(worldSet, bukkitWorld))
+            );
+        }
+
+        runWorldProfile.apply(bukkitWorld);
+        applyWorldBorder(worldSet, bukkitWorld);
+        costTracker.track(bukkitWorld);
+        worldRegistry.register(bukkitWorld, worldSet);
+    }
+
+    private void applyWorldBorder(WorldSet worldSet, World world) {
+        if (!configHandler.isWorldBorderEnabled()) return;
+
+        // Centered on the overworld spawn, the nether scaled down to its coordinates, the end on its main island
+        Location spawn = worldSet.spawn;
+        WorldBorder border = world.getWorldBorder();
+        switch (world.getEnvironment()) {
+            case NETHER:
+                int netherRadius = configHandler.getWorldBorderNetherRadius();
+                if (netherRadius == 0) netherRadius = Math.max(1, configHandler.getWorldBorderOverworldRadius() / 8);
+                border.setCenter(spawn.getX() / 8, spawn.getZ() / 8);
+                border.setSize(netherRadius * 2);
+                break;
+            case THE_END:
+                border.setCenter(0, 0);
+                border.setSize(configHandler.getWorldBorderEndRadius() * 2);
+                break;
+            default:
+                border.setCenter(spawn.getX(), spawn.getZ());
+                border.setSize(configHandler.getWorldBorderOverworldRadius() * 2);
+        }
+    }
+
+    /* ==========================================================
+     *                      WORLD USAGE
+     * ========================================================== */
+    /**
+     * Counts a newly generated chunk towards the world set of the world it was generated in.
+     *
+     * @param world the world the chunk was generated in, ignored if it is not a speedrun world
+     */
+    public void recordGeneratedChunk(World world) {
+        WorldSet worldSet = worldRegistry.getWorldSet(world);
+        if (worldSet != null) worldSet.generatedChunks.incrementAndGet();
+    }
+
+    /**
+     * Returns the size of the region files of the created worlds of a world set.
+     *
+     * <p>Speedrun worlds are only saved if enabled by the run world profile, chunks that have not been saved yet
+     * are not included.</p>
+     *
+     * @param worldSet the world set
+     * @return the size on disk in bytes
+     */
+    public long getRegionBytes(WorldSet worldSet) {
+        long bytes = 0;
+        for (MultiverseWorld mvWorld : Arrays.asList(worldSet.overworld, worldSet.nether, worldSet.end)) {
+            World world = mvWorld != null ? mvWorld.getCBWorld() : null;
+            if (world == null) continue;
+
+            Path worldFolder = world.getWorldFolder().toPath();
+            File[] regionFiles = WorldTemplateCache.dimensionFolder(worldFolder, world.getEnvironment())
+                    .resolve("region")
+                    .toFile()
+                    .listFiles((directory, name) -> name.endsWith(".mca"));
+            if (regionFiles == null) continue;
+            for (File regionFile : regionFiles) bytes += regionFile.length();
+        }
+        return bytes;
+    }
+
+    /* ==========================================================
+     *                  LAZY NETHER AND END
+     * ========================================================== */
+    /**
+     * Creates the nether or end of a world set in the background, ahead of the first portal use.
+     *
+     * <p>Cached templates are copied off the main thread first, after which the world is created on the main
+     * thread by the {@link WorldCreationScheduler}. Does nothing if the dimension already exists or is being
+     * created.</p>
+     *
+     * @param worldSet    the world set to create the dimension for
+     * @param environment {@link World.Environment#NETHER} or {@link World.Environment#THE_END}
+     */
+    public void prepareDimension(WorldSet worldSet, World.Environment environment) {
+        if (worldSet.deleted || worldSet.getWorld(environment) != null) return;
+        if (!worldSet.requested.add(environment)) return;
+
+        String name = worldSet.getWorldName(environment);
+        worldSet.copying.add(environment);
+        templateCache.restore(worldSet.seed, Map.of(environment, name)).thenRun(() ->
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    worldSet.copying.remove(environment);
+                    creationScheduler.submit(List.of(() -> {
+                        // Created synchronously by a portal in the meantime
+                        if (!worldSet.requested.remove(environment)) return;
+
+                        // The run ended before the world was created
+                        if (worldSet.deleted) {
+                            deletionPipeline.tombstone(new File(Bukkit.getWorldContainer(), name));
+                            reservedWorldNames.remove(name);
+                            return;
+                        }
+                        createDimension(worldSet, environment);
+                    }), null, null);
+                })
         );
-        MultiverseWorld end = mvWorldManager.getMVWorld(endName);
-        if (Bukkit.getWorld(endName) != null) Bukkit.getWorld(endName).setDifficulty(Difficulty.EASY);
-        end.setRespawnToWorld(overworldName);
+    }
+
+    /**
+     * Makes sure the nether or end of a world set exists, creating it synchronously if needed.
+     *
+     * @param worldSet    the world set whose dimension is about to be entered
+     * @param environment {@link World.Environment#NETHER} or {@link World.Environment#THE_END}
+     * @return {@code true} if the dimension exists, {@code false} if it is still being created in the background
+     */
+    public boolean ensureDimension(WorldSet worldSet, World.Environment environment) {
+        if (worldSet.getWorld(environment) != null) return true;
+
+        // The template is still being copied into the world folder, the world is created shortly
+        if (worldSet.copying.contains(environment)) return false;
+
+        createDimension(worldSet, environment);
+        return worldSet.getWorld(environment) != null;
+    }
+
+    /* ==========================================================
+     *                   SPAWN PRE-GENERATION
+     * ========================================================== */
+    /**
+     * Loads and generates the chunks around the spawn of each given world set asynchronously.
+     *
+     * @param worldSets  the world sets whose spawn area should be pre-generated
+     * @param cancelled  checked before each chunk request, stopping pre-generation once it returns {@code true}
+     * @param onProgress receives the progress as a percentage in {@code [0, 100]}
+     * @param onComplete invoked on the main thread once every chunk is ready
+     */
+    public void pregenerateSpawns(
+            Collection<WorldSet> worldSets,
+            BooleanSupplier cancelled,
+            IntConsumer onProgress,
+            Runnable onComplete
+    ) {
+        List<Location> spawns = worldSets.stream().map(WorldSet::getSpawn).collect(Collectors.toList());
+        chunkPregenerator.pregenerate(spawns, cancelled, onProgress, onComplete);
+    }
 
-        // Link the three world
-        linkWorlds(overworldName, netherName, endName);
+    /* ==========================================================
+     *                        WORLD POOL
+     * ========================================================== */
+    private List<WorldSet> claimFromPool(SeedCategory.SeedType seedType, Long inputSeed, int count) {
+        if (!configHandler.isWorldPoolEnabled()) return null;
+        return inputSeed == null
+                ? worldPool.claim(seedType, count)
+                : worldPool.claimBySeed(String.valueOf(inputSeed), count);
+    }
+
+    private void refillPool() {
+        // Only refill while no run is waiting for worlds and the server is idle
+        if (poolRefillInProgress || pendingCreations.get() > 0) return;
+        if (tpsAvailable && Bukkit.getTPS()[0] < configHandler.getWorldPoolMinTps()) return;
+
+        // Pick the seed type furthest from being full
+        SeedCategory.SeedType seedType = worldPool.nextTypeToRefill(seedManager.getSelectableSeedTypes());
+        if (seedType == null) return;
+
+        // Top up an incomplete seed group, or start a new one
+        String seed = worldPool.nextSeedFor(seedType);
+        if (seed == null) {
+            Long selectedSeed = seedManager.selectSeed(seedType);
+            seed = String.valueOf(selectedSeed == null ? ThreadLocalRandom.current().nextLong() : selectedSeed);
+        }
+
+        String poolSeed = seed;
+        boolean captureTemplates = shouldCaptureTemplates(seedType, false);
+        long start = System.nanoTime();
+        poolRefillInProgress = true;
+        createWorldSet(POOL_WORLD_ID + UUID.randomUUID(), poolSeed, captureTemplates, worldSet -> {
+            worldPool.add(seedType, poolSeed, worldSet, System.nanoTime() - start);
+            poolRefillInProgress = false;
+        }, () -> poolRefillInProgress = false);
+    }
 
-        return new WorldSet(overworld, nether, end);
+    /* ==========================================================
+     *                      WORLD TEMPLATES
+     * ========================================================== */
+    private boolean shouldCaptureTemplates(SeedCategory.SeedType seedType, boolean reusedSeed) {
+        if (!configHandler.isWorldTemplatesEnabled()) return false;
+
+        // Random seeds are rarely generated again unless they are reused (resets), the other world sets of a
+        // battle are generated right away rather than waiting for a template they would only use once
+        return seedType != SeedCategory.SeedType.RANDOM
+                || reusedSeed
+                || configHandler.isWorldTemplatesCaptureRandomSeeds();
+    }
+
+    // Portals built around the overworld spawn lead to its nether coordinates, the end is entered on its spawn
+    private static Location templateCenter(WorldSet worldSet, World world) {
+        if (world.getEnvironment() != World.Environment.NETHER) return world.getSpawnLocation();
+        Location spawn = worldSet.spawn;
+        return new Location(world, spawn.getX() / 8, spawn.getY(), spawn.getZ() / 8);
     }
 
     /* ==========================================================
      *                  WORLD DELETION (N PLAYERS)
      * ========================================================== */
+    /**
+     * Teleports the given players that are in a speedrun world back to the main world's spawn, e.g. before their
+     * worlds are deleted.
+     *
+     * @param players the players to teleport
+     * @return a future completing on the main thread once every teleport has finished
+     */
+    public CompletableFuture<Void> teleportToFallback(Collection<Player> players) {
+        Location fallback = getFallbackSpawn();
+        Map<Player, Location> destinations = players.stream()
+                .filter(Player::isOnline)
+                .filter(player -> worldRegistry.isSpeedrunWorld(player.getWorld()))
+                .collect(Collectors.toMap(player -> player, player -> fallback));
+        return teleportService.teleportAll(destinations);
+    }
+
     /**
      * Deletes the world sets for multiple speedrunners.
      *
      * @param speedrunners The speedrunners whose worlds are to be deleted.
-     * @param callback     Callback invoked after all worlds are deleted.
+     * @param callback     Callback invoked after all worlds are unloaded, their folders are deleted
+     *                     in the background afterwards.
      */
     public void deleteWorldsForPlayers(Collection<Speedrunner> speedrunners, Runnable callback) {
         // Collect unique world sets by overworld name to avoid deleting shared worlds multiple times
@@ -242,62 +689,126 @@ public class WorldManager {
     private void deleteWorldSet(WorldSet worldSet) {
         // Get world names
         String overworldName = worldSet.overworld.getName();
-        String netherName = worldSet.nether.getName();
-        String endName = worldSet.end.getName();
+        worldSet.deleted = true;
 
-        // Remove world links
-        unlinkWorlds(overworldName, netherName, endName);
+        // Remove world links, unload the worlds and hand their folders over to the background deletion
+        if (worldSet.nether != null) {
+            unlinkWorlds(overworldName, worldSet.netherName, PortalType.NETHER);
+            unloadAndTombstone(worldSet.netherName);
+        }
+        if (worldSet.end != null) {
+            unlinkWorlds(overworldName, worldSet.endName, PortalType.ENDER);
+            unloadAndTombstone(worldSet.endName);
+        }
+        unloadAndTombstone(overworldName);
 
-        // Delete worlds if they exist
-        if (mvWorldManager.getMVWorld(overworldName) != null) mvWorldManager.deleteWorld(overworldName);
-        if (mvWorldManager.getMVWorld(netherName) != null) mvWorldManager.deleteWorld(netherName);
-        if (mvWorldManager.getMVWorld(endName) != null) mvWorldManager.deleteWorld(endName);
+        // Dimensions still being created release their names once they are tombstoned
+        reservedWorldNames.remove(overworldName);
+        if (!worldSet.requested.contains(World.Environment.NETHER)) reservedWorldNames.remove(worldSet.netherName);
+        if (!worldSet.requested.contains(World.Environment.THE_END)) reservedWorldNames.remove(worldSet.endName);
     }
 
     private void cleanupLeftoverSrpWorlds() {
-        String owPrefix = configHandler.getOverworldPrefix();
-        String netherPrefix = configHandler.getNetherPrefix();
-        String endPrefix = configHandler.getEndPrefix();
-
-        mvWorldManager.getMVWorlds().forEach(world -> {
-            String name = world.getName();
+        // Tombstones left behind by a previous session (queued before any new tombstone is created)
+        deletionPipeline.recoverTombstones();
+
+        // Leftover worlds registered in Multiverse
+        new ArrayList<>(mvWorldManager.getMVWorlds()).stream()
+                .map(MultiverseWorld::getName)
+                .filter(this::isSrpWorldName)
+                .forEach(name -> {
+                    Bukkit.getLogger().info("[SRP] Removing leftover world: " + name);
+                    unloadAndTombstone(name);
+                });
 
-            if (name.startsWith(owPrefix) ||
-                    name.startsWith(netherPrefix) ||
-                    name.startsWith(endPrefix)) {
+        // Leftover world folders which are not loaded
+        File[] leftoverFolders = Bukkit.getWorldContainer().listFiles(file ->
+                file.isDirectory() && isSrpWorldName(file.getName()) && Bukkit.getWorld(file.getName()) == null
+        );
+        if (leftoverFolders == null) return;
+        for (File folder : leftoverFolders) {
+            Bukkit.getLogger().info("[SRP] Removing leftover world folder: " + folder.getName());
+            mvWorldManager.removeWorldFromConfig(folder.getName());
+            deletionPipeline.tombstone(folder);
+        }
+    }
 
-                Bukkit.getLogger().info("[SRP] Removing leftover world: " + name);
-                mvWorldManager.deleteWorld(name);
+    private void unloadAndTombstone(String name) {
+        World world = Bukkit.getWorld(name);
+        File folder = world != null ? world.getWorldFolder() : new File(Bukkit.getWorldContainer(), name);
+
+        // Drop the world from Multiverse without letting it unload (and save) the world
+        costTracker.untrack(name);
+        if (world != null) worldRegistry.unregister(world);
+        mvWorldManager.unloadWorld(name, false);
+
+        if (world != null) {
+            // Worlds cannot be unloaded with players in them, speedrunners have already been teleported out
+            // asynchronously, anyone else left is teleported synchronously right before the unload
+            Location fallback = getFallbackSpawn();
+            world.getPlayers().forEach(player -> player.teleport(fallback));
+
+            // Unload without saving, the world is about to be deleted
+            if (!Bukkit.unloadWorld(world, false)) {
+                Bukkit.getLogger().warning("[SRP] Failed to unload world: " + name);
+                return;
             }
-        });
+        }
+
+        // Unregister the world from Multiverse's config
+        mvWorldManager.removeWorldFromConfig(name);
+
+        // Move the folder into a tombstone, deleted by the background worker
+        deletionPipeline.tombstone(folder);
     }
 
     /* ==========================================================
      *                       HELPERS
      * ========================================================== */
-    private void linkWorlds(String overworldName, String netherName, String endName) {
-        portalManager.addWorldLink(overworldName, netherName, PortalType.NETHER);
-        portalManager.addWorldLink(netherName, overworldName, PortalType.NETHER);
-        portalManager.addWorldLink(overworldName, endName, PortalType.ENDER);
-        portalManager.addWorldLink(endName, overworldName, PortalType.ENDER);
+    private void linkWorlds(String overworldName, String dimensionName, PortalType portalType) {
+        portalManager.addWorldLink(overworldName, dimensionName, portalType);
+        portalManager.addWorldLink(dimensionName, overworldName, portalType);
+    }
+
+    private void unlinkWorlds(String overworldName, String dimensionName, PortalType portalType) {
+        portalManager.removeWorldLink(overworldName, dimensionName, portalType);
+        portalManager.removeWorldLink(dimensionName, overworldName, portalType);
+    }
+
+    private boolean isSrpWorldName(String name) {
+        return name.startsWith(configHandler.getOverworldPrefix()) ||
+                name.startsWith(configHandler.getNetherPrefix()) ||
+                name.startsWith(configHandler.getEndPrefix());
+    }
+
+    private static boolean isTpsAvailable() {
+        try {
+            Bukkit.class.getMethod("getTPS");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
-    private void unlinkWorlds(String overworldName, String netherName, String endName) {
-        portalManager.removeWorldLink(overworldName, netherName, PortalType.NETHER);
-        portalManager.removeWorldLink(netherName, overworldName, PortalType.NETHER);
-        portalManager.removeWorldLink(overworldName, endName, PortalType.ENDER);
-        portalManager.removeWorldLink(endName, overworldName, PortalType.ENDER);
+    private Location getFallbackSpawn() {
+        World mainOverworld = configHandler.getMainOverworld();
+        if (mainOverworld == null) mainOverworld = Bukkit.getWorlds().get(0);
+        return mainOverworld.getSpawnLocation();
     }
 
     private String getWorldName(String baseName) {
         String name = baseName;
         int accumulator = 1;
 
-        // Check Bukkit world registry – Multiverse loads worlds here
-        while (Bukkit.getWorld(name) != null) {
+        // Check Bukkit world registry – Multiverse loads worlds here – existing folders and names reserved for
+        // dimensions which have not been created yet
+        while (Bukkit.getWorld(name) != null
+                || new File(Bukkit.getWorldContainer(), name).exists()
+                || reservedWorldNames.contains(name)) {
             name = baseName + "_" + accumulator;
             accumulator++;
         }
+        reservedWorldNames.add(name);
         return name;
     }
 }
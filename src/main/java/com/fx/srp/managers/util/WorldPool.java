@@ -0,0 +1,225 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.config.ConfigHandler;
+import com.fx.srp.model.seed.SeedCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warm standby pool of pre-created {@link WorldManager.WorldSet}s, keyed by {@link SeedCategory.SeedType}.
+ *
+ * <p>Pooled world sets are fully created and linked ahead of time, so a run start only has to claim
+ * a set and teleport its players. Sets are grouped by seed, allowing multiplayer runs to claim several
+ * sets sharing the same seed.</p>
+ *
+ * <p>The pool is only accessed from the main server thread, metrics may be read from any thread.</p>
+ */
+public class WorldPool {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    private final Map<SeedCategory.SeedType, Deque<PooledWorldSet>> pool =
+            new EnumMap<>(SeedCategory.SeedType.class);
+
+    // Metrics
+    @Getter private final AtomicLong hits = new AtomicLong();
+    @Getter private final AtomicLong misses = new AtomicLong();
+    @Getter private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong totalRefillNanos = new AtomicLong();
+    private final AtomicLong lastRefillNanos = new AtomicLong();
+
+    /**
+     * A pre-created world set together with the seed it was created from.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class PooledWorldSet {
+        private final String seed;
+        private final WorldManager.WorldSet worldSet;
+    }
+
+    /* ==========================================================
+     *                          CLAIM
+     * ========================================================== */
+    /**
+     * Claims a number of pooled world sets of the given seed type, all sharing the same seed.
+     *
+     * @param seedType the seed type to claim world sets for
+     * @param count    the number of world sets needed
+     * @return the claimed world sets, or {@code null} on a pool miss
+     */
+    public List<WorldManager.WorldSet> claim(SeedCategory.SeedType seedType, int count) {
+        Deque<PooledWorldSet> bucket = pool.get(seedType);
+        List<WorldManager.WorldSet> claimed = bucket == null ? null : claimFromBucket(bucket, null, count);
+        if (claimed == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return claimed;
+    }
+
+    /**
+     * Claims a number of pooled world sets created from the given seed.
+     *
+     * @param seed  the seed the world sets must be created from
+     * @param count the number of world sets needed
+     * @return the claimed world sets, or {@code null} on a pool miss
+     */
+    public List<WorldManager.WorldSet> claimBySeed(String seed, int count) {
+        for (Deque<PooledWorldSet> bucket : pool.values()) {
+            List<WorldManager.WorldSet> claimed = claimFromBucket(bucket, seed, count);
+            if (claimed != null) {
+                hits.incrementAndGet();
+                return claimed;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private List<WorldManager.WorldSet> claimFromBucket(Deque<PooledWorldSet> bucket, String seed, int count) {
+        // Find the first seed (in insertion order) that has enough world sets
+        String claimSeed = null;
+        for (Map.Entry<String, Integer> group : countBySeed(bucket).entrySet()) {
+            if (group.getValue() >= count && (seed == null || seed.equals(group.getKey()))) {
+                claimSeed = group.getKey();
+                break;
+            }
+        }
+        if (claimSeed == null) return null;
+
+        // Remove the world sets from the pool
+        List<WorldManager.WorldSet> claimed = new ArrayList<>(count);
+        Iterator<PooledWorldSet> iterator = bucket.iterator();
+        while (iterator.hasNext() && claimed.size() < count) {
+            PooledWorldSet pooled = iterator.next();
+            if (pooled.getSeed().equals(claimSeed)) {
+                claimed.add(pooled.getWorldSet());
+                iterator.remove();
+            }
+        }
+        return claimed;
+    }
+
+    /* ==========================================================
+     *                          REFILL
+     * ========================================================== */
+    /**
+     * Determines the seed type whose pool is the furthest from being full.
+     *
+     * @param seedTypes the seed types that should be pooled
+     * @return the seed type to refill next, or {@code null} if every pool is full
+     */
+    public SeedCategory.SeedType nextTypeToRefill(Collection<SeedCategory.SeedType> seedTypes) {
+        int target = configHandler.getWorldPoolSizePerType();
+        SeedCategory.SeedType next = null;
+        int lowest = target;
+
+        for (SeedCategory.SeedType seedType : seedTypes) {
+            int size = size(seedType);
+            if (size < lowest) {
+                lowest = size;
+                next = seedType;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the seed of an incomplete seed group of the given type, so that the next pooled
+     * world set tops that group up instead of starting a new seed.
+     *
+     * @param seedType the seed type being refilled
+     * @return the seed to reuse, or {@code null} if a new seed should be selected
+     */
+    public String nextSeedFor(SeedCategory.SeedType seedType) {
+        Deque<PooledWorldSet> bucket = pool.get(seedType);
+        if (bucket == null) return null;
+
+        int setsPerSeed = configHandler.getWorldPoolSetsPerSeed();
+        for (Map.Entry<String, Integer> group : countBySeed(bucket).entrySet()) {
+            if (group.getValue() < setsPerSeed) return group.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Adds a freshly created world set to the pool and records its creation latency.
+     *
+     * @param seedType     the seed type the set was created for
+     * @param seed         the seed the set was created from
+     * @param worldSet     the created world set
+     * @param elapsedNanos the time it took to create the set, in nanoseconds
+     */
+    public void add(SeedCategory.SeedType seedType, String seed, WorldManager.WorldSet worldSet, long elapsedNanos) {
+        pool.computeIfAbsent(seedType, type -> new ArrayDeque<>()).addLast(
+                new PooledWorldSet(seed, worldSet)
+        );
+        refills.incrementAndGet();
+        totalRefillNanos.addAndGet(elapsedNanos);
+        lastRefillNanos.set(elapsedNanos);
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the number of pooled world sets of a given seed type.
+     *
+     * @param seedType the seed type
+     * @return the number of ready world sets
+     */
+    public int size(SeedCategory.SeedType seedType) {
+        Deque<PooledWorldSet> bucket = pool.get(seedType);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /**
+     * Returns the total number of pooled world sets.
+     *
+     * @return the number of ready world sets
+     */
+    public int size() {
+        return pool.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Returns the average time it took to create a pooled world set.
+     *
+     * @return the average refill latency in milliseconds
+     */
+    public double getAverageRefillMillis() {
+        long count = refills.get();
+        return count == 0 ? 0 : totalRefillNanos.get() / (double) count / 1_000_000d;
+    }
+
+    /**
+     * Returns the time it took to create the most recently pooled world set.
+     *
+     * @return the latest refill latency in milliseconds
+     */
+    public double getLastRefillMillis() {
+        return lastRefillNanos.get() / 1_000_000d;
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private Map<String, Integer> countBySeed(Deque<PooledWorldSet> bucket) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        bucket.forEach(pooled -> counts.merge(pooled.getSeed(), 1, Integer::sum));
+        return counts;
+    }
+}
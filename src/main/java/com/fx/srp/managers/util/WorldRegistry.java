@@ -0,0 +1,103 @@
+package com.fx.srp.managers.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains an index of all speedrun worlds by their UID, to the {@link WorldManager.WorldSet} owning them and
+ * their dimension.
+ *
+ * <p>World-scoped event handlers reject events from other worlds with a single lookup, and compare the owning world
+ * set by identity rather than comparing world names. A world set belongs to the run of the speedrunners it is
+ * assigned to. The index is maintained by the {@link WorldManager} as worlds are created and deleted.</p>
+ *
+ * <p>Provides a singleton instance accessible via {@link #getINSTANCE()}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class WorldRegistry {
+
+    @Getter private static final WorldRegistry INSTANCE = new WorldRegistry();
+
+    private final Map<UUID, Entry> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * A speedrun world: the world set owning it and its dimension.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Entry {
+        private final WorldManager.WorldSet worldSet;
+        private final World.Environment dimension;
+    }
+
+    /**
+     * Retrieves the entry of a world.
+     *
+     * @param world the world, may be {@code null}
+     * @return the {@link Entry}, or {@code null} if the world is not a speedrun world
+     */
+    public Entry get(World world) {
+        return world == null ? null : worlds.get(world.getUID());
+    }
+
+    /**
+     * Retrieves the world set owning a world.
+     *
+     * @param world the world, may be {@code null}
+     * @return the {@link WorldManager.WorldSet}, or {@code null} if the world is not a speedrun world
+     */
+    public WorldManager.WorldSet getWorldSet(World world) {
+        Entry entry = get(world);
+        return entry == null ? null : entry.worldSet;
+    }
+
+    /**
+     * Checks whether a world is a speedrun world.
+     *
+     * @param world the world, may be {@code null}
+     * @return {@code true} if the world belongs to a world set
+     */
+    public boolean isSpeedrunWorld(World world) {
+        return get(world) != null;
+    }
+
+    /**
+     * Checks whether a world is a given dimension of a world set.
+     *
+     * @param world     the world, may be {@code null}
+     * @param worldSet  the world set
+     * @param dimension the dimension
+     * @return {@code true} if the world is that dimension of the world set
+     */
+    public boolean isDimension(World world, WorldManager.WorldSet worldSet, World.Environment dimension) {
+        Entry entry = get(world);
+        return entry != null && entry.worldSet == worldSet && entry.dimension == dimension;
+    }
+
+    /**
+     * Returns the number of speedrun worlds.
+     *
+     * @return the number of registered worlds
+     */
+    public int size() {
+        return worlds.size();
+    }
+
+    /* ==========================================================
+     *                 MAINTAINED BY WORLD MANAGER
+     * ========================================================== */
+    void register(World world, WorldManager.WorldSet worldSet) {
+        worlds.put(world.getUID(), new Entry(worldSet, world.getEnvironment()));
+    }
+
+    void unregister(World world) {
+        worlds.remove(world.getUID());
+    }
+}
@@ -0,0 +1,387 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.config.ConfigHandler;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Cache of generated region files around the spawn of speedrun worlds, keyed by seed and dimension.
+ *
+ * <p>Once a world has been generated, the region files covering its spawn area are copied into a template.
+ * Later worlds created from the same seed and dimension get the template copied into their folder before
+ * they are loaded, so the server loads the spawn area from disk instead of generating it again.</p>
+ *
+ * <p>Templates are captured from a freshly created world before any player enters it. The world is saved, and its
+ * region files are only copied once the server has stopped writing to them. A template is discarded if its files
+ * changed while they were being copied, the next world created from the seed captures it again.</p>
+ *
+ * <p>Templates are evicted least recently used first once the cache exceeds its configured disk budget.
+ * Every file operation runs on a single background thread, so a template is never evicted while it is being
+ * copied. Templates are stored per server version, since chunks of another version would need upgrading.</p>
+ */
+public class WorldTemplateCache {
+
+    private final Logger logger = Bukkit.getLogger();
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    private static final String TEMPLATE_DIRECTORY = "templates";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final String[] DATA_DIRECTORIES = {"region", "poi"};
+    private static final long FLUSH_POLL_MILLIS = 250L;
+    private static final int FLUSH_MAX_POLLS = 40;
+
+    private final Path templateDirectory;
+    private final ExecutorService worker;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final Set<String> capturing = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    @Getter private final AtomicLong hits = new AtomicLong();
+    @Getter private final AtomicLong misses = new AtomicLong();
+    @Getter private final AtomicLong evictions = new AtomicLong();
+    @Getter private final AtomicLong sizeBytes = new AtomicLong();
+
+    /**
+     * A cached template on disk.
+     */
+    @AllArgsConstructor
+    private static class Template {
+        private final Path directory;
+        private final long bytes;
+        private volatile long lastUsed;
+    }
+
+    /**
+     * Constructs the cache, storing templates inside the plugin's data folder, and indexes existing templates.
+     *
+     * @param plugin the main {@link SpeedRunPlus} plugin instance
+     */
+    public WorldTemplateCache(SpeedRunPlus plugin) {
+        this.templateDirectory = plugin.getDataFolder().toPath()
+                .resolve(TEMPLATE_DIRECTORY)
+                .resolve(Bukkit.getBukkitVersion());
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SRP-WorldTemplates");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        submit(this::loadTemplates);
+    }
+
+    /**
+     * Stops the worker, partially written templates are discarded on the next start.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /* ==========================================================
+     *                         RESTORE
+     * ========================================================== */
+    /**
+     * Copies the cached templates of a seed into the folders of worlds that are about to be created.
+     *
+     * <p>The returned future always completes normally, dimensions without a template are simply generated.</p>
+     *
+     * @param seed       the seed the worlds will be created from
+     * @param worldNames the names of the worlds to be created, by dimension
+     * @return a future completing once every available template has been copied
+     */
+    public CompletableFuture<Void> restore(String seed, Map<World.Environment, String> worldNames) {
+        if (!configHandler.isWorldTemplatesEnabled()) return CompletableFuture.completedFuture(null);
+
+        Path worldContainer = Bukkit.getWorldContainer().toPath();
+        return submit(() -> worldNames.forEach((environment, worldName) -> {
+            Template template = templates.get(key(seed, environment));
+            if (template == null) {
+                misses.incrementAndGet();
+                return;
+            }
+
+            Path target = dimensionFolder(worldContainer.resolve(worldName), environment);
+            try {
+                copyTree(template.directory, target);
+                touch(template);
+                hits.incrementAndGet();
+            } catch (IOException e) {
+                logger.warning("[SRP] Failed to copy world template into " + worldName + ": " + e.getMessage());
+                misses.incrementAndGet();
+                deleteTree(target);
+            }
+        }));
+    }
+
+    /* ==========================================================
+     *                         CAPTURE
+     * ========================================================== */
+    /**
+     * Saves a freshly created world and caches the region files around the given center, if its seed and dimension
+     * have no template yet. Must be called on the main thread, before any player enters the world.
+     *
+     * <p>The region files are copied in the background once they are no longer written to. The returned future
+     * always completes normally.</p>
+     *
+     * @param seed   the seed the world was created from
+     * @param world  the freshly created world
+     * @param center the location the cached region files are centered on
+     * @return a future completing once the template has been written or discarded
+     */
+    public CompletableFuture<Void> capture(String seed, World world, Location center) {
+        if (!configHandler.isWorldTemplatesEnabled()) return CompletableFuture.completedFuture(null);
+
+        String key = key(seed, world.getEnvironment());
+        if (templates.containsKey(key) || !capturing.add(key)) return CompletableFuture.completedFuture(null);
+
+        // Queue the generated chunks for writing, the region files are copied once they have been flushed
+        world.save();
+        Path source = dimensionFolder(world.getWorldFolder().toPath(), world.getEnvironment());
+        List<String> regionFiles = regionFilesAround(center);
+        return submit(() -> {
+            try {
+                writeTemplate(key, source, regionFiles);
+                evictOverBudget();
+            } finally {
+                // Released once the template is registered, so that it is not captured twice
+                capturing.remove(key);
+            }
+        });
+    }
+
+    /* ==========================================================
+     *                          METRICS
+     * ========================================================== */
+    /**
+     * Returns the number of cached templates, one per seed and dimension.
+     *
+     * @return the number of templates
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private CompletableFuture<Void> submit(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, worker).exceptionally(error -> {
+                logger.warning("[SRP] World template task failed: " + error.getMessage());
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void loadTemplates() {
+        if (!Files.isDirectory(templateDirectory)) return;
+
+        try (Stream<Path> seeds = Files.list(templateDirectory)) {
+            for (Path seedDirectory : (Iterable<Path>) seeds::iterator) {
+                try (Stream<Path> dimensions = Files.list(seedDirectory)) {
+                    for (Path directory : (Iterable<Path>) dimensions::iterator) {
+                        // Discard templates that were not completely written
+                        if (directory.getFileName().toString().endsWith(TEMPORARY_SUFFIX)) {
+                            deleteTree(directory);
+                            continue;
+                        }
+                        String key = seedDirectory.getFileName() + "/" + directory.getFileName();
+                        long lastUsed = Files.getLastModifiedTime(directory).toMillis();
+                        register(key, new Template(directory, sizeOf(directory), lastUsed));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to index world templates: " + e.getMessage());
+        }
+        evictOverBudget();
+    }
+
+    private void writeTemplate(String key, Path source, List<String> regionFiles) {
+        Path directory = templateDirectory.resolve(key);
+        Path temporary = directory.resolveSibling(directory.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            Map<Path, List<Long>> flushed = awaitFlushed(source, regionFiles);
+            if (flushed == null) {
+                logger.warning("[SRP] Skipped world template " + key + ", its region files kept changing");
+                return;
+            }
+
+            // Copy into a temporary directory first, so that a template is never seen half-written
+            for (String dataDirectory : DATA_DIRECTORIES) {
+                Path sourceDirectory = source.resolve(dataDirectory);
+                Path targetDirectory = temporary.resolve(dataDirectory);
+                for (String regionFile : regionFiles) {
+                    Path file = sourceDirectory.resolve(regionFile);
+                    if (!Files.isRegularFile(file)) continue;
+                    Files.createDirectories(targetDirectory);
+                    Files.copy(file, targetDirectory.resolve(regionFile), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (!Files.isDirectory(temporary)) return;
+
+            // The server wrote to the region files while they were copied, the copy may be torn
+            if (!flushed.equals(fileStates(source, regionFiles))) {
+                logger.warning("[SRP] Discarded world template " + key + ", its region files changed while copied");
+                deleteTree(temporary);
+                return;
+            }
+
+            Files.move(temporary, directory, StandardCopyOption.ATOMIC_MOVE);
+            register(key, new Template(directory, sizeOf(directory), System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to write world template " + key + ": " + e.getMessage());
+            deleteTree(temporary);
+        }
+    }
+
+    // Waits until the region files have been unchanged for two consecutive polls, i.e. the chunks queued by the save
+    // have been written, returns their state then or null if they kept changing
+    private Map<Path, List<Long>> awaitFlushed(Path source, List<String> regionFiles) throws IOException {
+        Map<Path, List<Long>> previous = fileStates(source, regionFiles);
+        for (int poll = 0; poll < FLUSH_MAX_POLLS; poll++) {
+            try {
+                Thread.sleep(FLUSH_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Map<Path, List<Long>> current = fileStates(source, regionFiles);
+            if (!current.isEmpty() && current.equals(previous)) return current;
+            previous = current;
+        }
+        return null;
+    }
+
+    // The size and modification time of each existing region file
+    private static Map<Path, List<Long>> fileStates(Path source, List<String> regionFiles) throws IOException {
+        Map<Path, List<Long>> states = new HashMap<>();
+        for (String dataDirectory : DATA_DIRECTORIES) {
+            for (String regionFile : regionFiles) {
+                Path file = source.resolve(dataDirectory).resolve(regionFile);
+                if (!Files.isRegularFile(file)) continue;
+                states.put(file, List.of(Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+            }
+        }
+        return states;
+    }
+
+    private void register(String key, Template template) {
+        Template previous = templates.put(key, template);
+        if (previous != null) sizeBytes.addAndGet(-previous.bytes);
+        sizeBytes.addAndGet(template.bytes);
+    }
+
+    private void evictOverBudget() {
+        long maxBytes = configHandler.getWorldTemplatesMaxBytes();
+        while (sizeBytes.get() > maxBytes && !templates.isEmpty()) {
+            Map.Entry<String, Template> leastRecentlyUsed = templates.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                    .orElseThrow();
+            templates.remove(leastRecentlyUsed.getKey());
+            sizeBytes.addAndGet(-leastRecentlyUsed.getValue().bytes);
+            deleteTree(leastRecentlyUsed.getValue().directory);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void touch(Template template) {
+        template.lastUsed = System.currentTimeMillis();
+        try {
+            // Persist the access time, so the eviction order survives restarts
+            Files.setLastModifiedTime(template.directory, FileTime.fromMillis(template.lastUsed));
+        } catch (IOException ignored) {
+            // The in-memory access time is still updated
+        }
+    }
+
+    private List<String> regionFilesAround(Location spawn) {
+        int radius = configHandler.getWorldTemplatesRadius();
+        int chunkX = spawn.getBlockX() >> 4;
+        int chunkZ = spawn.getBlockZ() >> 4;
+
+        // A region file covers 32x32 chunks
+        List<String> regionFiles = new ArrayList<>();
+        for (int regionX = (chunkX - radius) >> 5; regionX <= (chunkX + radius) >> 5; regionX++) {
+            for (int regionZ = (chunkZ - radius) >> 5; regionZ <= (chunkZ + radius) >> 5; regionZ++) {
+                regionFiles.add("r." + regionX + "." + regionZ + ".mca");
+            }
+        }
+        return regionFiles;
+    }
+
+    private static String key(String seed, World.Environment environment) {
+        return seed + "/" + environment.name();
+    }
+
+    static Path dimensionFolder(Path worldFolder, World.Environment environment) {
+        switch (environment) {
+            case NETHER:
+                return worldFolder.resolve("DIM-1");
+            case THE_END:
+                return worldFolder.resolve("DIM1");
+            default:
+                return worldFolder;
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(directory)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private void deleteTree(Path directory) {
+        if (!Files.exists(directory)) return;
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warning("[SRP] Failed to delete " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.fx.srp.model.player;
 
+import com.fx.srp.managers.util.PlayerFreezer;
 import com.fx.srp.managers.util.WorldManager;
 import com.fx.srp.model.EyeThrow;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.advancement.Advancement;
@@ -13,14 +14,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a player participating in a speedrun, tracking their state,
- * stopwatch, worlds, and providing utilities to freeze, restore, or reset the player.
+ * clock, worlds, and providing utilities to freeze, restore, or reset the player.
  */
 @Getter
 public class Speedrunner {
@@ -42,18 +42,21 @@ public class Speedrunner {
     // Worlds
     @Getter @Setter private WorldManager.WorldSet worldSet;
 
-    // Stopwatch
-    private final StopWatch stopWatch;
+    // Clock
+    private final RunClock clock;
+
+    // Index of the speedrunner among the speedrunners of their run, assigned by the run on its first milestone
+    @Setter private int runSlot = -1;
 
     /**
-     * Constructs a Speedrunner for the given player and stopwatch.
+     * Constructs a Speedrunner for the given player and clock.
      *
-     * @param player    The player being wrapped.
-     * @param stopWatch The stopwatch to track the player's run time.
+     * @param player The player being wrapped.
+     * @param clock  The clock to track the player's run time.
      */
-    public Speedrunner(Player player, StopWatch stopWatch) {
+    public Speedrunner(Player player, RunClock clock) {
         this.player = player;
-        this.stopWatch = stopWatch;
+        this.clock = clock;
     }
 
     /* ==========================================================
@@ -70,21 +73,14 @@ public class Speedrunner {
     }
 
     /**
-     * Freezes the player: disables movement.
+     * Freezes the player: disables movement and holds them at their position, see {@link PlayerFreezer}.
      */
     public void freeze(){
         if (!isFrozen()){
+            PlayerFreezer.getINSTANCE().freeze(player);
             player.setWalkSpeed(0f);
             player.setFlySpeed(0f);
             player.setAllowFlight(false);
-            player.addPotionEffect(new PotionEffect(
-                    PotionEffectType.JUMP,
-                    Integer.MAX_VALUE,
-                    128,
-                    false,
-                    false,
-                    false
-            ));
             this.playerFreeze = true;
         }
     }
@@ -96,7 +92,7 @@ public class Speedrunner {
         if (isFrozen()){
             player.setWalkSpeed(0.2f);
             player.setFlySpeed(0.1f);
-            player.removePotionEffect(PotionEffectType.JUMP);
+            PlayerFreezer.getINSTANCE().unfreeze(player);
             this.playerFreeze = false;
         }
     }
@@ -140,9 +136,6 @@ public class Speedrunner {
         resetPlayerStats(player);
         clearPlayerInventory(player);
         clearPlayerAdvancements(player);
-
-        // Give the player a new empty scoreboard
-        player.setScoreboard(Bukkit.getScoreboardManager().getNewScoreboard());
     }
 
     /**
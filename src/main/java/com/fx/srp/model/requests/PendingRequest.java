@@ -1,5 +1,7 @@
 package com.fx.srp.model.requests;
 
+import com.fx.srp.commands.GameMode;
+import com.fx.srp.managers.util.RequestBroker;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,17 +10,19 @@ import java.util.UUID;
 /**
  * Represents a pending speedrun request for multiplayer game modes sent from one player to another.
  * <p>
- * This class stores the UUID of the player who initiated the request, the timestamp
- * when the request was created, and the Bukkit task ID used to schedule a timeout.
+ * This class stores the UUIDs of the player who initiated the request and of its target, the {@link GameMode} it
+ * was sent for, the timestamp when the request was created, and the {@link RequestBroker.Expiry} of its timeout.
  * </p>
  */
 @Getter
 public class PendingRequest {
 
     private final UUID playerUUID;
+    private final UUID targetUUID;
+    private final GameMode gameMode;
     private final long timestamp;
 
-    @Getter @Setter private int timeoutTaskId = -1;
+    @Getter @Setter private RequestBroker.Expiry expiry;
     @Getter private final boolean teamInvite;
     @Getter private final boolean duel;
 
@@ -26,17 +30,21 @@ public class PendingRequest {
      * Constructs a new PendingRequest for the given player UUID.
      *
      * @param playerUUID The UUID of the player who sent the request.
+     * @param targetUUID The UUID of the player the request was sent to.
+     * @param gameMode   The game mode the request was sent for.
      */
-    public PendingRequest(UUID playerUUID) {
-        this(playerUUID, false, false);
+    public PendingRequest(UUID playerUUID, UUID targetUUID, GameMode gameMode) {
+        this(playerUUID, targetUUID, gameMode, false, false);
     }
 
-    public PendingRequest(UUID playerUUID, boolean teamInvite) {
-        this(playerUUID, teamInvite, false);
+    public PendingRequest(UUID playerUUID, UUID targetUUID, GameMode gameMode, boolean teamInvite) {
+        this(playerUUID, targetUUID, gameMode, teamInvite, false);
     }
 
-    public PendingRequest(UUID playerUUID, boolean teamInvite, boolean duel) {
+    public PendingRequest(UUID playerUUID, UUID targetUUID, GameMode gameMode, boolean teamInvite, boolean duel) {
         this.playerUUID = playerUUID;
+        this.targetUUID = targetUUID;
+        this.gameMode = gameMode;
         this.timestamp = System.currentTimeMillis();
         this.teamInvite = teamInvite;
         this.duel = duel;
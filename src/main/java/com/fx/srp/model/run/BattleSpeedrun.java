@@ -3,8 +3,8 @@ package com.fx.srp.model.run;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.util.ui.TimerUtil;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.entity.Player;
 
 import java.util.List;
@@ -29,16 +29,16 @@ public class BattleSpeedrun extends Speedrun {
      * @param gameMode the {@code GameMode} that the run represents
      * @param challenger  The {@code Speedrunner} who initiated the challenge.
      * @param challengee  The {@code Speedrunner} who was challenged.
-     * @param stopWatch   The {@code StopWatch} instance to track elapsed time.
+     * @param clock       The {@code RunClock} instance to track elapsed time.
      * @param seed        Optional seed for world generation. May be {@code null}.
      */
     public BattleSpeedrun(GameMode gameMode,
                           Speedrunner challenger,
                           Speedrunner challengee,
-                          StopWatch stopWatch,
+                          RunClock clock,
                           Long seed
     ) {
-        super(gameMode, challenger, stopWatch, seed);
+        super(gameMode, challenger, clock, seed);
         this.challenger = challenger;
         this.challengee = challengee;
     }
@@ -46,12 +46,12 @@ public class BattleSpeedrun extends Speedrun {
     /**
      * Initializes timers for both participants of the battle.
      * <p>
-     * Uses {@link TimerUtil#createTimer(List, StopWatch)} to create a shared timer HUD for both players.
+     * Uses {@link TimerUtil#createTimer(List, RunClock)} to create a shared timer HUD for both players.
      * </p>
      */
     @Override
     public void initializeTimers() {
-        TimerUtil.createTimer(List.of(challenger.getPlayer(), challengee.getPlayer()), getStopWatch());
+        TimerUtil.createTimer(List.of(challenger.getPlayer(), challengee.getPlayer()), getClock());
     }
 
     /**
@@ -3,8 +3,8 @@ package com.fx.srp.model.run;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.util.ui.TimerUtil;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.entity.Player;
 
 import java.util.List;
@@ -29,16 +29,16 @@ public class CoopSpeedrun extends Speedrun {
      * @param gameMode the {@code GameMode} that the run represents
      * @param leader      The {@code Speedrunner} who initiated the coop speedrun.
      * @param partner     The {@code Speedrunner} who was invited.
-     * @param stopWatch   The {@code StopWatch} instance to track elapsed time.
+     * @param clock       The {@code RunClock} instance to track elapsed time.
      * @param seed        Optional seed for world generation. May be {@code null}.
      */
     public CoopSpeedrun(GameMode gameMode,
                         Speedrunner leader,
                         Speedrunner partner,
-                        StopWatch stopWatch,
+                        RunClock clock,
                         Long seed
     ) {
-        super(gameMode, leader, stopWatch, seed);
+        super(gameMode, leader, clock, seed);
         this.leader = leader;
         this.partner = partner;
     }
@@ -46,12 +46,12 @@ public class CoopSpeedrun extends Speedrun {
     /**
      * Initializes timers for both participants of the coop run.
      * <p>
-     * Uses {@link TimerUtil#createTimer(List, StopWatch)} to create a shared timer HUD for both players.
+     * Uses {@link TimerUtil#createTimer(List, RunClock)} to create a shared timer HUD for both players.
      * </p>
      */
     @Override
     public void initializeTimers() {
-        TimerUtil.createTimer(List.of(leader.getPlayer(), partner.getPlayer()), getStopWatch());
+        TimerUtil.createTimer(List.of(leader.getPlayer(), partner.getPlayer()), getClock());
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.fx.srp.model.run;
 
 import com.fx.srp.model.player.Speedrunner;
-import org.apache.commons.lang.time.StopWatch;
+import com.fx.srp.util.time.RunClock;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import java.util.List;
@@ -15,7 +15,7 @@ import java.util.List;
  */
 public interface ISpeedrun {
     // State of the run
-    enum State { WAITING, CREATING_WORLDS, COUNTDOWN, RUNNING, FINISHED, CLEANING }
+    enum State { WAITING, CREATING_WORLDS, PREGENERATING, COUNTDOWN, RUNNING, FINISHED, CLEANING }
 
     /**
      * Gets the current state of the speedrun.
@@ -59,11 +59,11 @@ public interface ISpeedrun {
     void initializeTimers();
 
     /**
-     * Returns the stopwatch tracking the elapsed time for this run.
+     * Returns the clock tracking the elapsed time for this run.
      *
-     * @return the {@code StopWatch} for the run
+     * @return the {@code RunClock} for the run
      */
-    StopWatch getStopWatch();
+    RunClock getClock();
 
     /**
      * Returns the seed used for world generation in this run.
@@ -0,0 +1,24 @@
+package com.fx.srp.model.run;
+
+import lombok.Getter;
+
+/**
+ * Represents a milestone of a speedrun, recorded as a split the first time it is reached.
+ *
+ * <p>The milestones are listed in the order they are usually reached in a run, their ordinal is used as the index
+ * of their split time. Split times are persisted in this order, so new milestones must be added at the end.</p>
+ */
+@Getter
+public enum Milestone {
+    NETHER_ENTRY("Nether"),
+    FORTRESS("Fortress"),
+    BLIND_TRAVEL("Blind"),
+    STRONGHOLD("Stronghold"),
+    END_ENTRY("End");
+
+    private final String displayName;
+
+    Milestone(String displayName) {
+        this.displayName = displayName;
+    }
+}
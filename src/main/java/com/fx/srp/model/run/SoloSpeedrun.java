@@ -3,8 +3,8 @@ package com.fx.srp.model.run;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.util.ui.TimerUtil;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
-import org.apache.commons.lang.time.StopWatch;
 
 import java.util.List;
 
@@ -24,11 +24,11 @@ public class SoloSpeedrun extends Speedrun {
      *
      * @param gameMode the {@code GameMode} that the run represents
      * @param speedrunner the {@code Speedrunner} participating in the run
-     * @param stopWatch the {@code StopWatch} used to track elapsed time
+     * @param clock       the {@code RunClock} used to track elapsed time
      * @param seed the seed used for world generation, may be {@code null}
      */
-    public SoloSpeedrun(GameMode gameMode, Speedrunner speedrunner, StopWatch stopWatch, Long seed) {
-        super(gameMode, speedrunner, stopWatch, seed);
+    public SoloSpeedrun(GameMode gameMode, Speedrunner speedrunner, RunClock clock, Long seed) {
+        super(gameMode, speedrunner, clock, seed);
         this.speedrunner = speedrunner;
     }
 
@@ -40,6 +40,6 @@ public class SoloSpeedrun extends Speedrun {
      */
     @Override
     public void initializeTimers() {
-        TimerUtil.createTimer(List.of(speedrunner.getPlayer()), getStopWatch());
+        TimerUtil.createTimer(List.of(speedrunner.getPlayer()), getClock());
     }
 }
@@ -1,32 +1,39 @@
 package com.fx.srp.model.run;
 
 import com.fx.srp.managers.util.WorldManager;
+import com.fx.srp.managers.util.WorldRegistry;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents a generic speedrun session for a player or group of players.
  * <p>
  * This abstract class provides core functionality for starting, stopping, and
- * managing a speedrun, including stopwatch handling, state management, seed tracking,
+ * managing a speedrun, including clock handling, state management, seed tracking,
  * and player respawn handling.
  * </p>
  */
 public abstract class Speedrun implements ISpeedrun {
 
+    // Split time of a milestone that has not been reached
+    public static final long NOT_REACHED = -1L;
+
+    private static final int MILESTONES = Milestone.values().length;
+
     @Getter protected final GameMode gameMode;
 
-    @Getter private final StopWatch stopWatch;
+    @Getter private final RunClock clock;
 
     @Getter @Setter private State state = State.WAITING;
 
@@ -34,22 +41,23 @@ public abstract class Speedrun implements ISpeedrun {
 
     private final Speedrunner owner;
 
-    @Getter @Setter protected BukkitTask timerUpdateTask;
-
     @Getter @Setter protected BukkitTask timeoutTask;
 
+    // Split times of each speedrunner, indexed by speedrunner and milestone, created on the first milestone
+    private long[] milestoneTimes;
+
     /**
      * Constructs a new speedrun instance.
      *
      * @param gameMode the {@code GameMode} that the run represents
      * @param owner       The {@code Speedrunner} who owns or participates in this run.
-     * @param stopWatch   The {@code StopWatch} instance to track elapsed time.
+     * @param clock       The {@code RunClock} instance to track elapsed time.
      * @param seed        Optional seed for world generation. May be {@code null}.
      */
-    public Speedrun(GameMode gameMode, Speedrunner owner, StopWatch stopWatch, Long seed) {
+    public Speedrun(GameMode gameMode, Speedrunner owner, RunClock clock, Long seed) {
         this.gameMode = gameMode;
         this.owner = owner;
-        this.stopWatch = stopWatch;
+        this.clock = clock;
         this.seed = seed;
     }
 
@@ -62,6 +70,69 @@ public abstract class Speedrun implements ISpeedrun {
         return List.of(owner);
     }
 
+    /**
+     * Records a milestone for a speedrunner and their teammates sharing the same worlds, at the load-removed time
+     * of the clock.
+     *
+     * <p>The split times are created on the first milestone of the run, which assigns every speedrunner their
+     * slot in them, see {@link Speedrunner#getRunSlot()}.</p>
+     *
+     * @param speedrunner The {@code Speedrunner} who reached the milestone.
+     * @param milestone   The {@code Milestone} that was reached.
+     * @return {@code true} if the milestone was reached for the first time
+     */
+    public boolean recordMilestone(Speedrunner speedrunner, Milestone milestone) {
+        if (milestoneTimes == null) {
+            List<Speedrunner> speedrunners = getSpeedrunners();
+            milestoneTimes = new long[speedrunners.size() * MILESTONES];
+            Arrays.fill(milestoneTimes, NOT_REACHED);
+            for (int i = 0; i < speedrunners.size(); i++) speedrunners.get(i).setRunSlot(i);
+        }
+
+        int runSlot = runSlot(speedrunner);
+        if (runSlot < 0 || milestoneTimes[runSlot * MILESTONES + milestone.ordinal()] != NOT_REACHED) return false;
+
+        // Teammates sharing the worlds reach the milestone together
+        long time = clock.getLoadRemovedTime();
+        for (Speedrunner other : getSpeedrunners()) {
+            if (other != speedrunner && other.getWorldSet() != speedrunner.getWorldSet()) continue;
+            int otherSlot = runSlot(other);
+            if (otherSlot < 0) continue;
+            int index = otherSlot * MILESTONES + milestone.ordinal();
+            if (milestoneTimes[index] == NOT_REACHED) milestoneTimes[index] = time;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a speedrunner has reached a milestone.
+     *
+     * @param speedrunner The {@code Speedrunner} to check.
+     * @param milestone   The {@code Milestone} to check.
+     * @return {@code true} if the milestone was reached
+     */
+    public boolean isMilestoneReached(Speedrunner speedrunner, Milestone milestone) {
+        int runSlot = runSlot(speedrunner);
+        return runSlot >= 0 && milestoneTimes[runSlot * MILESTONES + milestone.ordinal()] != NOT_REACHED;
+    }
+
+    /**
+     * Returns the split times of a speedrunner, indexed by {@link Milestone#ordinal()}.
+     *
+     * @param speedrunner The {@code Speedrunner} whose split times to return.
+     * @return a copy of the split times in milliseconds, {@link #NOT_REACHED} for milestones not reached
+     */
+    public long[] getMilestoneTimes(Speedrunner speedrunner) {
+        long[] times = new long[MILESTONES];
+        int runSlot = runSlot(speedrunner);
+        if (runSlot < 0) {
+            Arrays.fill(times, NOT_REACHED);
+        } else {
+            System.arraycopy(milestoneTimes, runSlot * MILESTONES, times, 0, MILESTONES);
+        }
+        return times;
+    }
+
     /**
      * Called when a player leaves the server during this speedrun.
      * <p>
@@ -87,30 +158,17 @@ public abstract class Speedrun implements ISpeedrun {
      */
     public void onPlayerRespawn(Speedrunner speedrunner, PlayerRespawnEvent event) {
         WorldManager.WorldSet worlds = speedrunner.getWorldSet();
+        WorldRegistry worldRegistry = WorldRegistry.getINSTANCE();
 
-        // Get the respawn location's world
+        // Let the event pass if it is in a speedrun world of the speedrunner
         World respawnWorld = event.getRespawnLocation().getWorld();
-        String respawnWorldName = respawnWorld.getName();
-
-        // Speedrun world names
-        String speedRunOverworldName = worlds.getOverworld().getName();
-        String speedRunNetherName = worlds.getNether().getName();
-        String speedRunEndName = worlds.getEnd().getName();
-
-        // Let the event pass if it is in a speedrun world
-        if (respawnWorldName.equals(speedRunOverworldName) ||
-                respawnWorldName.equals(speedRunNetherName) ||
-                respawnWorldName.equals(speedRunEndName)
-        ) return;
+        if (worldRegistry.getWorldSet(respawnWorld) == worlds) return;
 
         // Otherwise, overwrite the respawn location
         Player player = speedrunner.getPlayer();
         Location bedSpawnLocation = player.getBedSpawnLocation();   // includes respawn-anchors
-        boolean isBedSpawnLocationInSpeedrun = bedSpawnLocation != null && (
-                bedSpawnLocation.getWorld().getName().equals(speedRunOverworldName) ||
-                bedSpawnLocation.getWorld().getName().equals(speedRunNetherName) ||
-                bedSpawnLocation.getWorld().getName().equals(speedRunEndName)
-        );
+        boolean isBedSpawnLocationInSpeedrun = bedSpawnLocation != null &&
+                worldRegistry.getWorldSet(bedSpawnLocation.getWorld()) == worlds;
 
         // Overwrite the spawn location at the bed/respawn-anchor if set
         if (isBedSpawnLocationInSpeedrun) {
@@ -121,4 +179,14 @@ public abstract class Speedrun implements ISpeedrun {
         // Otherwise, respawn in the speedrun overworld spawn
         event.setRespawnLocation(worlds.getSpawn());
     }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    // Slot of a speedrunner in the split times, -1 if there are none for them yet
+    private int runSlot(Speedrunner speedrunner) {
+        int runSlot = speedrunner.getRunSlot();
+        if (milestoneTimes == null || runSlot < 0 || runSlot >= milestoneTimes.length / MILESTONES) return -1;
+        return runSlot;
+    }
 }
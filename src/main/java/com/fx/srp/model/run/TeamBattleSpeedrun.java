@@ -3,8 +3,8 @@ package com.fx.srp.model.run;
 import com.fx.srp.model.player.Speedrunner;
 import com.fx.srp.util.ui.TimerUtil;
 import com.fx.srp.commands.GameMode;
+import com.fx.srp.util.time.RunClock;
 import lombok.Getter;
-import org.apache.commons.lang.time.StopWatch;
 import org.bukkit.entity.Player;
 
 import java.util.List;
@@ -31,9 +31,9 @@ public class TeamBattleSpeedrun extends Speedrun {
                               Speedrunner teamA2,
                               Speedrunner teamB1,
                               Speedrunner teamB2,
-                              StopWatch stopWatch,
+                              RunClock clock,
                               Long seed) {
-        super(gameMode, teamA1, stopWatch, seed);
+        super(gameMode, teamA1, clock, seed);
         this.teamA1 = teamA1;
         this.teamA2 = teamA2;
         this.teamB1 = teamB1;
@@ -47,7 +47,7 @@ public class TeamBattleSpeedrun extends Speedrun {
                 teamA2.getPlayer(),
                 teamB1.getPlayer(),
                 teamB2.getPlayer()
-        ), getStopWatch());
+        ), getClock());
     }
 
     @Override
@@ -0,0 +1,159 @@
+package com.fx.srp.util.time;
+
+import lombok.Getter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the time of a run, based on {@link System#nanoTime()}.
+ *
+ * <p>Besides the real time, the clock keeps a load-removed time, which excludes the time the server fell behind
+ * 50 ms per tick while the clock was running, as measured by the {@link TickStallMonitor}. The clock can be paused
+ * and resumed.</p>
+ *
+ * <p>The clock is only accessed from the main server thread.</p>
+ */
+public class RunClock {
+
+    private final TickStallMonitor stallMonitor;
+    private final LongSupplier nanoTime;
+
+    @Getter private boolean running;
+    @Getter private boolean paused;
+
+    // Time accumulated before the clock was last started or resumed
+    private long elapsedNanos;
+    private long stalledNanos;
+    private long stalls;
+
+    // Readings when the clock was last started or resumed
+    private long resumedAt;
+    private long stalledNanosAtResume;
+    private long stallsAtResume;
+
+    /**
+     * Constructs a new {@link RunClock}, measuring stalls with the shared {@link TickStallMonitor}.
+     */
+    public RunClock() {
+        this(TickStallMonitor.getINSTANCE(), System::nanoTime);
+    }
+
+    RunClock(TickStallMonitor stallMonitor, LongSupplier nanoTime) {
+        this.stallMonitor = stallMonitor;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Resets and starts the clock.
+     */
+    public void start() {
+        reset();
+        running = true;
+        markResumed();
+    }
+
+    /**
+     * Stops the clock, its time is kept until it is reset. Does nothing if the clock is not running.
+     */
+    public void stop() {
+        if (!running) return;
+        if (!paused) accumulate();
+        running = false;
+        paused = false;
+    }
+
+    /**
+     * Stops the clock and clears its time.
+     */
+    public void reset() {
+        running = false;
+        paused = false;
+        elapsedNanos = 0;
+        stalledNanos = 0;
+        stalls = 0;
+    }
+
+    /**
+     * Pauses the running clock. Does nothing if the clock is not running or already paused.
+     */
+    public void pause() {
+        if (!running || paused) return;
+        accumulate();
+        paused = true;
+    }
+
+    /**
+     * Resumes the paused clock. Does nothing if the clock is not paused.
+     */
+    public void resume() {
+        if (!running || !paused) return;
+        paused = false;
+        markResumed();
+    }
+
+    /**
+     * Returns the real time of the clock.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getNanos() {
+        return elapsedNanos + (isTicking() ? nanoTime.getAsLong() - resumedAt : 0);
+    }
+
+    /**
+     * Returns the real time of the clock.
+     *
+     * @return the time in milliseconds
+     */
+    public long getTime() {
+        return getNanos() / 1_000_000L;
+    }
+
+    /**
+     * Returns the time of the clock without the time the server spent beyond 50 ms per tick.
+     *
+     * @return the load-removed time in milliseconds
+     */
+    public long getLoadRemovedTime() {
+        return Math.max(0, getNanos() - getStalledNanos()) / 1_000_000L;
+    }
+
+    /**
+     * Returns the time the server fell behind 50 ms per tick while the clock was running.
+     *
+     * <p>Never negative, even if the server caught up on time it fell behind before the clock was started.</p>
+     *
+     * @return the stalled time in nanoseconds
+     */
+    public long getStalledNanos() {
+        return Math.max(0, stalledNanos + (isTicking() ? stallMonitor.getStalledNanos() - stalledNanosAtResume : 0));
+    }
+
+    /**
+     * Returns the number of ticks that took longer than 50 ms while the clock was running.
+     *
+     * @return the number of stalled ticks
+     */
+    public long getStalls() {
+        return stalls + (isTicking() ? stallMonitor.getStalls().get() - stallsAtResume : 0);
+    }
+
+    /* ==========================================================
+     *                       HELPERS
+     * ========================================================== */
+    private boolean isTicking() {
+        return running && !paused;
+    }
+
+    private void markResumed() {
+        resumedAt = nanoTime.getAsLong();
+        stalledNanosAtResume = stallMonitor.getStalledNanos();
+        stallsAtResume = stallMonitor.getStalls().get();
+    }
+
+    private void accumulate() {
+        elapsedNanos = getNanos();
+        stalledNanos = getStalledNanos();
+        stalls = getStalls();
+    }
+}
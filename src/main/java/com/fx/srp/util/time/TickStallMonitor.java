@@ -0,0 +1,123 @@
+package com.fx.srp.util.time;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long the server takes per tick and accumulates the time it falls behind the 50 ms a tick should take.
+ *
+ * <p>The server catches up on a late tick by running the following ticks early, so the time spent beyond 50 ms is
+ * kept as a debt which early ticks pay back. Only the debt left is stalled time, so jitter and ticks the server
+ * caught up on are not counted. Ticks early without a debt are jitter too, credited against the next late tick up
+ * to a few milliseconds. {@link RunClock}s subtract the stalled time accumulated while they were running from
+ * their load-removed time, so runs are not penalized for lag caused by other runs. The most recent stalls are kept
+ * as samples.</p>
+ *
+ * <p>Provides a singleton instance accessible via {@link #getINSTANCE()}. The monitor is started and stopped on
+ * the main server thread, its counters may be read from any thread.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public class TickStallMonitor {
+
+    @Getter private static final TickStallMonitor INSTANCE = new TickStallMonitor();
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long JITTER_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int SAMPLE_COUNT = 64;
+
+    private BukkitTask task;
+    private long lastTick;
+    private long debtNanos;
+
+    // Stalled time not caught up on while monitoring, and the number of ticks that fell behind
+    private final AtomicLong stalledNanos = new AtomicLong();
+    @Getter private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong maxStallNanos = new AtomicLong();
+
+    // Most recent stalls, oldest overwritten first
+    private final long[] samples = new long[SAMPLE_COUNT];
+
+    /**
+     * Starts measuring ticks, does nothing if already started.
+     *
+     * @param plugin the plugin scheduling the measurement
+     */
+    public void start(Plugin plugin) {
+        if (task != null) return;
+        lastTick = 0;
+        debtNanos = 0;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, () -> tick(System.nanoTime()), 1L, 1L);
+    }
+
+    /**
+     * Stops measuring ticks.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Returns the total time the server fell behind 50 ms per tick while being monitored, without the time it caught
+     * up on since.
+     *
+     * @return the stalled time in nanoseconds, decreasing while the server catches up
+     */
+    public long getStalledNanos() {
+        return stalledNanos.get();
+    }
+
+    /**
+     * Returns the longest time the server spent beyond 50 ms in a single tick.
+     *
+     * @return the longest stall in milliseconds
+     */
+    public double getMaxStallMillis() {
+        return maxStallNanos.get() / 1_000_000d;
+    }
+
+    /**
+     * Returns the average of the most recent stalls.
+     *
+     * @return the average recent stall in milliseconds
+     */
+    public synchronized double getRecentAverageStallMillis() {
+        int count = (int) Math.min(stalls.get(), SAMPLE_COUNT);
+        if (count == 0) return 0;
+
+        long total = 0;
+        for (int i = 0; i < count; i++) total += samples[i];
+        return total / (double) count / 1_000_000d;
+    }
+
+    /**
+     * Measures a tick, run at the start of every tick while started.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    void tick(long now) {
+        long previous = lastTick;
+        lastTick = now;
+        if (previous == 0) return;
+
+        // Late ticks add to the debt, early ticks pay it back, only the debt left counts as stalled
+        long stall = now - previous - TICK_NANOS;
+        long debt = Math.max(-JITTER_NANOS, debtNanos + stall);
+        stalledNanos.addAndGet(Math.max(0, debt) - Math.max(0, debtNanos));
+        debtNanos = debt;
+        if (stall <= 0) return;
+
+        synchronized (this) {
+            samples[(int) (stalls.get() % SAMPLE_COUNT)] = stall;
+            stalls.incrementAndGet();
+        }
+        maxStallNanos.accumulateAndGet(stall, Math::max);
+    }
+}
@@ -1,35 +1,44 @@
 package com.fx.srp.util.time;
 
 import lombok.NonNull;
-import org.apache.commons.lang.time.StopWatch;
-
-import java.util.function.Function;
 
 /**
- * Formats time values from a {@link StopWatch} or a raw millisecond value into
+ * Formats time values from a {@link RunClock} or a raw millisecond value into
  * a human-readable string.
  * <p>
  * Supports options such as including hours, using suffixes like {@code "min"} or
  * {@code "sec"}, and rendering milliseconds as superscript.
  * </p>
+ * <p>
+ * Formatting writes digits from lookup tables into a preallocated buffer confined to the calling thread, so the
+ * resulting {@code String} is the only allocation. A formatter can be reused for any number of values through
+ * {@link #format(long)}.
+ * </p>
  */
 public class TimeFormatter {
 
-    private final StopWatch stopWatch;
+    private final RunClock clock;
     private final long milliseconds;
     private boolean superscriptMs;
     private boolean useSuffixes;
     private boolean includeHours;
 
-    private static final String TWO_DECIMALS_FORMAT = "%02d";
+    private static final char[] DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
+    private static final char[] SUPERSCRIPT_DIGITS = {
+            '\u2070', '\u00B9', '\u00B2', '\u00B3', '\u2074', '\u2075', '\u2076', '\u2077', '\u2078', '\u2079'
+    };
+
+    // Comfortably above the longest possible output, 20 characters of hours followed by the other components
+    private static final int BUFFER_SIZE = 64;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
 
     /**
-     * Constructs a {@code TimeFormatter} for a given {@link StopWatch}.
+     * Constructs a {@code TimeFormatter} for a given {@link RunClock}.
      *
-     * @param stopWatch the {@code StopWatch} to format; must not be {@code null}
+     * @param clock the {@code RunClock} to format; must not be {@code null}
      */
-    public TimeFormatter(@NonNull StopWatch stopWatch) {
-        this.stopWatch = stopWatch;
+    public TimeFormatter(@NonNull RunClock clock) {
+        this.clock = clock;
         this.milliseconds = -1;
     }
 
@@ -39,7 +48,7 @@ public class TimeFormatter {
      * @param milliseconds the time in milliseconds
      */
     public TimeFormatter(long milliseconds) {
-        this.stopWatch = null;
+        this.clock = null;
         this.milliseconds = milliseconds;
     }
 
@@ -69,13 +78,7 @@ public class TimeFormatter {
      * @return this {@code TimeFormatter} instance for chaining
      */
     public TimeFormatter withHours() {
-        long hours = (stopWatch != null)
-                ? TimeUtil.getHours(stopWatch)
-                : TimeUtil.getHours(milliseconds);
-
-        if (hours > 0) {
-            this.includeHours = true;
-        }
+        this.includeHours = true;
         return this;
     }
 
@@ -85,49 +88,83 @@ public class TimeFormatter {
      * @return the formatted time as a {@code String}
      */
     public String format() {
-        long milliseconds = getValue(TimeUtil::getMilliseconds);
-        long seconds = getValue(TimeUtil::getSeconds);
-        long minutes = getValue(TimeUtil::getMinutes);
-        long hours = getValue(TimeUtil::getHours);
-
-        final String millisecondsFormatted = useSuffixes
-                ? (milliseconds + "ms")
-                : superscriptMs
-                ? formatSuperscriptedMs(milliseconds)
-                : "." + milliseconds;
-
-        return (includeHours && hours > 0 ? formatComponent(hours, useSuffixes ? "h " : ":") : "") +
-                // Minutes
-                formatComponent(minutes, useSuffixes ? "min " : ":") +
-                // Seconds
-                formatComponent(seconds, useSuffixes ? "sec " : "") +
-                // Milliseconds
-                millisecondsFormatted;
+        return format(clock != null ? clock.getTime() : milliseconds);
     }
 
-    @SuppressWarnings("all")
-    private String formatSuperscriptedMs(long milliseconds) {
-        return String.format(TWO_DECIMALS_FORMAT, milliseconds)
-                .replace("0", "\u2070")
-                .replace("1", "\u00B9")
-                .replace("2", "\u00B2")
-                .replace("3", "\u00B3")
-                .replace("4", "\u2074")
-                .replace("5", "\u2075")
-                .replace("6", "\u2076")
-                .replace("7", "\u2077")
-                .replace("8", "\u2078")
-                .replace("9", "\u2079");
+    /**
+     * Builds the formatted time string of the given value based on the configuration of this formatter, ignoring
+     * the {@code RunClock} or value it was constructed with.
+     *
+     * @param time the time in milliseconds
+     * @return the formatted time as a {@code String}
+     */
+    public String format(long time) {
+        long milliseconds = TimeUtil.getMilliseconds(time);
+        long seconds = TimeUtil.getSeconds(time);
+        long minutes = TimeUtil.getMinutes(time);
+        long hours = TimeUtil.getHours(time);
+
+        char[] buffer = BUFFER.get();
+        int length = 0;
+
+        // Hours
+        if (includeHours && hours > 0) {
+            length = writePadded(buffer, length, hours, DIGITS);
+            length = write(buffer, length, useSuffixes ? "h " : ":");
+        }
+
+        // Minutes
+        length = writePadded(buffer, length, minutes, DIGITS);
+        length = write(buffer, length, useSuffixes ? "min " : ":");
+
+        // Seconds
+        length = writePadded(buffer, length, seconds, DIGITS);
+        if (useSuffixes) length = write(buffer, length, "sec ");
+
+        // Milliseconds
+        if (useSuffixes) {
+            length = writeDigits(buffer, length, milliseconds, 1, DIGITS);
+            length = write(buffer, length, "ms");
+        } else if (superscriptMs) {
+            length = writePadded(buffer, length, milliseconds, SUPERSCRIPT_DIGITS);
+        } else {
+            buffer[length++] = '.';
+            length = writeDigits(buffer, length, milliseconds, 1, DIGITS);
+        }
+
+        return new String(buffer, 0, length);
+    }
+
+    // Two digits at least, like "%02d"
+    private static int writePadded(char[] buffer, int offset, long value, char[] digits) {
+        return writeDigits(buffer, offset, value, 2, digits);
     }
 
-    private long getValue(Function<Long, Long> extractor) {
-        long base = (stopWatch != null)
-                ? stopWatch.getTime()
-                : milliseconds;
-        return extractor.apply(base);
+    // The sign counts towards the minimum width, like "%0<width>d"
+    private static int writeDigits(char[] buffer, int offset, long value, int minWidth, char[] digits) {
+        if (value < 0) {
+            buffer[offset++] = '-';
+            minWidth--;
+        }
+
+        // Count the digits, negating positive values as the negative range is larger
+        long negated = value < 0 ? value : -value;
+        int count = 1;
+        for (long rest = negated / 10; rest != 0; rest /= 10) count++;
+
+        for (int i = count; i < minWidth; i++) buffer[offset++] = digits[0];
+
+        // Write the digits back to front
+        int end = offset + count;
+        for (int i = end - 1; i >= offset; i--) {
+            buffer[i] = digits[(int) -(negated % 10)];
+            negated /= 10;
+        }
+        return end;
     }
 
-    private String formatComponent(long value, String suffixOrSeparator) {
-        return String.format(TWO_DECIMALS_FORMAT, value) + suffixOrSeparator;
+    private static int write(char[] buffer, int offset, String text) {
+        text.getChars(0, text.length(), buffer, offset);
+        return offset + text.length();
     }
 }
@@ -2,36 +2,35 @@ package com.fx.srp.util.time;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang.time.StopWatch;
 
 /**
  * Utility class for extracting time components (hours, minutes, seconds, milliseconds)
- * from a {@link StopWatch} or a raw millisecond value.
+ * from a {@link RunClock} or a raw millisecond value.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TimeUtil {
 
     /**
-     * Gets the milliseconds component (2-digit) from a {@link StopWatch}.
+     * Gets the milliseconds component (2-digit) from a {@link RunClock}.
      *
-     * @param stopWatch the {@code StopWatch}; may be {@code null}
-     * @return the milliseconds component in {@code [0, 99]} or {@code 0} if {@code stopWatch} is {@code null}
+     * @param clock the {@code RunClock}; may be {@code null}
+     * @return the milliseconds component in {@code [0, 99]} or {@code 0} if {@code clock} is {@code null}
      */
-    public static long getMilliseconds(StopWatch stopWatch) {
-        if (stopWatch == null) return 0;
-        long milliseconds = stopWatch.getTime() % 1000L;
+    public static long getMilliseconds(RunClock clock) {
+        if (clock == null) return 0;
+        long milliseconds = clock.getTime() % 1000L;
         return milliseconds / 10L;  // 2 Digits
     }
 
     /**
-     * Gets the hours component from a {@link StopWatch}.
+     * Gets the hours component from a {@link RunClock}.
      *
-     * @param stopWatch the {@code StopWatch}; may be {@code null}
-     * @return the hours component or {@code 0} if {@code stopWatch} is {@code null}
+     * @param clock the {@code RunClock}; may be {@code null}
+     * @return the hours component or {@code 0} if {@code clock} is {@code null}
      */
-    public static long getHours(StopWatch stopWatch) {
-        if (stopWatch == null) return 0;
-        long seconds = stopWatch.getTime() / 1000L;
+    public static long getHours(RunClock clock) {
+        if (clock == null) return 0;
+        long seconds = clock.getTime() / 1000L;
         return seconds / 3600;
     }
 
@@ -0,0 +1,39 @@
+package com.fx.srp.util.ui;
+
+import com.fx.srp.config.ConfigHandler;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+/**
+ * Displays the timer in the player's action bar, a single chat packet per update.
+ *
+ * <p>The client fades the action bar out after a few seconds, so every update is sent, even if the text did not
+ * change.</p>
+ */
+public class ActionBarTimerDisplay implements TimerDisplay {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    @Override
+    public void show(Player player, String time) {
+        update(player, time);
+    }
+
+    @Override
+    public boolean update(Player player, String time) {
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(ChatColor.WHITE + time));
+        return true;
+    }
+
+    @Override
+    public void hide(Player player) {
+        if (player.isOnline()) player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(""));
+    }
+
+    @Override
+    public int getRefreshTicks() {
+        return configHandler.getTimerActionBarRefreshTicks();
+    }
+}
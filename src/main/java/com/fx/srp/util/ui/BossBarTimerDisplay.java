@@ -0,0 +1,58 @@
+package com.fx.srp.util.ui;
+
+import com.fx.srp.config.ConfigHandler;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Displays the timer as the title of a boss bar shown to the player only.
+ *
+ * <p>Every title change is sent as a boss bar packet, so the timer is only updated if its text differs from the
+ * current title.</p>
+ */
+public class BossBarTimerDisplay implements TimerDisplay {
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    private final Map<UUID, BossBar> bossBars = new HashMap<>();
+
+    @Override
+    public void show(Player player, String time) {
+        BossBar bossBar = Bukkit.createBossBar(ChatColor.WHITE + time, BarColor.WHITE, BarStyle.SOLID);
+        bossBar.addPlayer(player);
+        BossBar previous = bossBars.put(player.getUniqueId(), bossBar);
+        if (previous != null) previous.removeAll();
+    }
+
+    @Override
+    public boolean update(Player player, String time) {
+        BossBar bossBar = bossBars.get(player.getUniqueId());
+        if (bossBar == null) return false;
+
+        // Only send changes
+        String title = ChatColor.WHITE + time;
+        if (title.equals(bossBar.getTitle())) return false;
+
+        bossBar.setTitle(title);
+        return true;
+    }
+
+    @Override
+    public void hide(Player player) {
+        BossBar bossBar = bossBars.remove(player.getUniqueId());
+        if (bossBar != null) bossBar.removeAll();
+    }
+
+    @Override
+    public int getRefreshTicks() {
+        return configHandler.getTimerBossBarRefreshTicks();
+    }
+}
@@ -0,0 +1,89 @@
+package com.fx.srp.util.ui;
+
+import com.fx.srp.config.ConfigHandler;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Displays the timer on the player's sidebar using a {@link Scoreboard} objective and a {@link Team} suffix.
+ *
+ * <p>The player is given a scoreboard of their own while the timer is shown, their previous scoreboard is restored
+ * once it is hidden. Every change of the suffix is sent as a scoreboard packet, so the timer is only updated if
+ * its text differs from the last text sent to that player.</p>
+ */
+public class SidebarTimerDisplay implements TimerDisplay {
+
+    private static final String TIMER_OBJECTIVE_ID = "SRP_TIMER";
+    private static final String TIMER_OBJECTIVE_CRITERIA = "dummy";
+    private static final String TIMER_TITLE = "Timer";
+    private static final String TEAM_ID = "SRP_TEAM";
+    private static final String TEAM_SIDEBAR_ANCHOR = "§a";
+    private static final String TEAM_TIMER_ANCHOR = "§f";
+
+    private final ConfigHandler configHandler = ConfigHandler.getInstance();
+
+    // Scoreboards of the players before the timer was shown
+    private final Map<UUID, Scoreboard> previousScoreboards = new HashMap<>();
+
+    // Last timer text sent to each player
+    private final Map<UUID, String> lastSent = new HashMap<>();
+
+    @Override
+    public void show(Player player, String time) {
+        // Give the player a scoreboard of their own, the timer must not show up for other players
+        previousScoreboards.putIfAbsent(player.getUniqueId(), player.getScoreboard());
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        player.setScoreboard(scoreboard);
+
+        // Create the timer
+        Objective timer = scoreboard.registerNewObjective(TIMER_OBJECTIVE_ID, TIMER_OBJECTIVE_CRITERIA, TIMER_TITLE);
+        timer.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        // Use a team to present the timer
+        Team team = scoreboard.registerNewTeam(TEAM_ID);
+        team.addEntry(TEAM_SIDEBAR_ANCHOR); // Anchoring the team to the sidebar
+        team.setPrefix("");
+        String suffix = TEAM_TIMER_ANCHOR + time;
+        team.setSuffix(suffix);
+        lastSent.put(player.getUniqueId(), suffix);
+
+        // Set the (team) timer
+        timer.getScore(TEAM_SIDEBAR_ANCHOR).setScore(0);
+    }
+
+    @Override
+    public boolean update(Player player, String time) {
+        // Get the player's scoreboard and their team, exit prematurely if it does not already exist
+        Team team = player.getScoreboard().getTeam(TEAM_ID);
+        if (team == null) return false;
+
+        // Only send changes
+        String suffix = TEAM_TIMER_ANCHOR + time;
+        if (suffix.equals(lastSent.get(player.getUniqueId()))) return false;
+
+        // Update the timer
+        team.setSuffix(suffix);
+        lastSent.put(player.getUniqueId(), suffix);
+        return true;
+    }
+
+    @Override
+    public void hide(Player player) {
+        lastSent.remove(player.getUniqueId());
+        Scoreboard previous = previousScoreboards.remove(player.getUniqueId());
+        if (previous != null && player.isOnline()) player.setScoreboard(previous);
+    }
+
+    @Override
+    public int getRefreshTicks() {
+        return configHandler.getTimerSidebarRefreshTicks();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fx.srp.util.ui;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Represents a way of displaying the run timer to a player.
+ *
+ * <p>Implementations differ in the packets they send per update, so each display has its own refresh interval,
+ * allowing the cheapest display to be used under heavy load. Displays are only accessed from the main server
+ * thread.</p>
+ */
+public interface TimerDisplay {
+
+    /**
+     * The available timer displays.
+     */
+    enum Type {
+        SIDEBAR,
+        ACTION_BAR,
+        BOSS_BAR
+    }
+
+    /**
+     * Shows the timer to a player.
+     *
+     * @param player the player to show the timer to
+     * @param time   the formatted time to display initially
+     */
+    void show(Player player, String time);
+
+    /**
+     * Updates the timer of a player.
+     *
+     * @param player the player whose timer should be updated
+     * @param time   the formatted time to display
+     * @return {@code true} if an update was sent to the player, {@code false} if it was skipped
+     */
+    boolean update(Player player, String time);
+
+    /**
+     * Hides the timer of a player.
+     *
+     * @param player the player whose timer should be hidden
+     */
+    void hide(Player player);
+
+    /**
+     * Returns how often the timer should be updated.
+     *
+     * @return the refresh interval in ticks
+     */
+    int getRefreshTicks();
+}
@@ -1,84 +1,178 @@
 package com.fx.srp.util.ui;
 
+import com.fx.srp.SpeedRunPlus;
+import com.fx.srp.config.ConfigHandler;
 import com.fx.srp.util.time.TimeFormatter;
+import com.fx.srp.util.time.RunClock;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang.time.StopWatch;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.Scoreboard;
-import org.bukkit.scoreboard.Team;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.persistence.PersistentDataType;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Utility class for creating and updating scoreboard-based timers for players.
+ * Utility class for creating and updating the timers of players.
  * <p>
- * This class allows displaying a live timer on a player's sidebar using
- * {@link Scoreboard} and {@link Team}.
+ * The timer is shown by a {@link TimerDisplay}: the sidebar, the action bar or a boss bar. The server's default
+ * display is configured, players may choose their own, which is stored with the player.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TimerUtil {
 
-    private static final String TIMER_OBJECTIVE_ID = "SRP_TIMER";
-    private static final String TIMER_OBJECTIVE_CRITERIA = "dummy";
-    private static final String TIMER_TITLE = "Timer";
-    private static final String TEAM_ID = "SRP_TEAM";
-    private static final String TEAM_SIDEBAR_ANCHOR = "§a";
-    private static final String TEAM_TIMER_ANCHOR = "§f";
+    private static final NamespacedKey DISPLAY_KEY =
+            new NamespacedKey(SpeedRunPlus.getPlugin(SpeedRunPlus.class), "timer-display");
+
+    private static final Map<TimerDisplay.Type, TimerDisplay> DISPLAYS = new EnumMap<>(Map.of(
+            TimerDisplay.Type.SIDEBAR, new SidebarTimerDisplay(),
+            TimerDisplay.Type.ACTION_BAR, new ActionBarTimerDisplay(),
+            TimerDisplay.Type.BOSS_BAR, new BossBarTimerDisplay()
+    ));
+
+    // Reused for every timer update
+    private static final TimeFormatter TIMER_FORMATTER = new TimeFormatter(0).withHours().withSuperscriptMs();
+
+    // Display showing the timer of each player and the time it shows
+    private static final Map<UUID, TimerDisplay> activeDisplays = new HashMap<>();
+    private static final Map<UUID, String> lastTimes = new HashMap<>();
+
+    // Metrics
+    @Getter private static final AtomicLong sentUpdates = new AtomicLong();
+    @Getter private static final AtomicLong skippedUpdates = new AtomicLong();
 
     /**
      * Creates a timer for multiple players.
      *
      * @param players   the list of {@code Player}s to add timers for
-     * @param stopwatch the {@link StopWatch} used to track the timer
+     * @param clock the {@link RunClock} used to track the timer
      */
-    public static void createTimer(List<Player> players, StopWatch stopwatch) {
-        players.forEach(player -> createTimer(player, stopwatch));
+    public static void createTimer(List<Player> players, RunClock clock) {
+        String time = format(clock);
+        players.forEach(player -> createTimer(player, time));
     }
 
-    // Create a time objective on a given player's scoreboard
-    private static void createTimer(Player player, StopWatch stopWatch) {
+    // Show the timer on the player's display
+    private static void createTimer(Player player, String time) {
         if (player == null || !player.isOnline()) return;
 
-        // Get the player's scoreboard and the timer within it, exit prematurely if it already exists
-        Scoreboard scoreboard = player.getScoreboard();
-        Objective timer = scoreboard.getObjective(TIMER_OBJECTIVE_ID);
-        if (timer != null) return;
-
-        // Create the timer
-        timer = scoreboard.registerNewObjective(TIMER_OBJECTIVE_ID, TIMER_OBJECTIVE_CRITERIA, TIMER_TITLE);
-        timer.setDisplaySlot(DisplaySlot.SIDEBAR);
+        // Exit prematurely if the timer already exists
+        if (activeDisplays.containsKey(player.getUniqueId())) return;
 
-        // Use a team to present the timer
-        Team team = scoreboard.getTeam(TEAM_ID);
-        if (team == null) team = scoreboard.registerNewTeam(TEAM_ID);
-        team.addEntry(TEAM_SIDEBAR_ANCHOR); // Anchoring the team to the sidebar
-        team.setPrefix("");
-        team.setSuffix(TEAM_TIMER_ANCHOR + new TimeFormatter(stopWatch).withHours().withSuperscriptMs().format());
+        TimerDisplay display = DISPLAYS.get(getDisplayType(player));
+        display.show(player, time);
+        activeDisplays.put(player.getUniqueId(), display);
+        lastTimes.put(player.getUniqueId(), time);
+    }
 
-        // Set the (team) timer
-        timer.getScore(TEAM_SIDEBAR_ANCHOR).setScore(0);
+    /**
+     * Formats the time of a clock the way it is displayed by the timer.
+     * <p>
+     * Players sharing a clock can share the formatted time, see {@link #updateTimer(Player, String)}.
+     *
+     * @param clock the {@link RunClock} used to track the timer
+     * @return the formatted time
+     */
+    public static String format(RunClock clock) {
+        return TIMER_FORMATTER.format(clock.getTime());
     }
 
     /**
      * Updates an existing timer for a player.
      * <p>
-     * If the player is {@code null}, offline, or does not have a team with the timer ID, this method does nothing.
+     * If the player is {@code null}, offline, or does not have a timer, this method does nothing.
      *
-     * @param player    the {@code Player} whose timer should be updated
-     * @param stopWatch the {@link StopWatch} used to track the timer
+     * @param player the {@code Player} whose timer should be updated
+     * @param time   the time to display, formatted by {@link #format(RunClock)}
      */
-    public static void updateTimer(Player player, StopWatch stopWatch) {
+    public static void updateTimer(Player player, String time) {
         if (player == null || !player.isOnline()) return;
 
-        // Get the player's scoreboard and their team, exit prematurely if it does not already exist
-        Team team = player.getScoreboard().getTeam(TEAM_ID);
-        if (team == null) return;
+        TimerDisplay display = activeDisplays.get(player.getUniqueId());
+        if (display == null) return;
 
-        // Update the timer
-        team.setSuffix(TEAM_TIMER_ANCHOR +  new TimeFormatter(stopWatch).withHours().withSuperscriptMs().format());
+        lastTimes.put(player.getUniqueId(), time);
+        if (display.update(player, time)) {
+            sentUpdates.incrementAndGet();
+        } else {
+            skippedUpdates.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns how often the timer of a player should be updated, depending on their display.
+     *
+     * @param player the player
+     * @return the refresh interval in ticks, or {@code 0} if the player has no timer
+     */
+    public static int getRefreshTicks(Player player) {
+        if (player == null) return 0;
+        TimerDisplay display = activeDisplays.get(player.getUniqueId());
+        return display == null ? 0 : display.getRefreshTicks();
+    }
+
+    /**
+     * Returns the distinct refresh intervals of the timer displays, computed once when the config is loaded.
+     *
+     * @return the refresh intervals in ticks, not to be modified
+     */
+    public static int[] getRefreshIntervals() {
+        return ConfigHandler.getInstance().getTimerRefreshIntervals();
+    }
+
+    /**
+     * Removes the timer of a player, e.g. once their run is over.
+     *
+     * @param player the player
+     */
+    public static void removeTimer(Player player) {
+        lastTimes.remove(player.getUniqueId());
+        TimerDisplay display = activeDisplays.remove(player.getUniqueId());
+        if (display != null) display.hide(player);
     }
-}
 
+    /* ==========================================================
+     *                      DISPLAY CHOICE
+     * ========================================================== */
+    /**
+     * Returns the timer display chosen by a player, or the server's default.
+     *
+     * @param player the player
+     * @return the type of display
+     */
+    public static TimerDisplay.Type getDisplayType(Player player) {
+        String chosen = player.getPersistentDataContainer().get(DISPLAY_KEY, PersistentDataType.STRING);
+        if (chosen != null) {
+            try {
+                return TimerDisplay.Type.valueOf(chosen);
+            } catch (IllegalArgumentException ignored) {
+                // Fall back to the default
+            }
+        }
+        return ConfigHandler.getInstance().getTimerDisplay();
+    }
+
+    /**
+     * Stores the timer display chosen by a player, switching a running timer over right away.
+     *
+     * @param player the player
+     * @param type   the type of display
+     */
+    public static void setDisplayType(Player player, TimerDisplay.Type type) {
+        player.getPersistentDataContainer().set(DISPLAY_KEY, PersistentDataType.STRING, type.name());
+
+        TimerDisplay current = activeDisplays.get(player.getUniqueId());
+        TimerDisplay chosen = DISPLAYS.get(type);
+        if (current == null || current == chosen) return;
+
+        current.hide(player);
+        chosen.show(player, lastTimes.get(player.getUniqueId()));
+        activeDisplays.put(player.getUniqueId(), chosen);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fx.srp.managers.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks the {@link LeaderboardIndex} against a sorted list over random inserts and removals.
+ */
+class LeaderboardIndexTest {
+
+    // Names are unique, so they break ties between equal times and the order is total
+    private static final Comparator<LeaderboardManager.RunEntry> ORDER =
+            Comparator.<LeaderboardManager.RunEntry>comparingLong(e -> e.time).thenComparing(e -> e.playerName);
+
+    private static final int OPERATIONS = 20_000;
+    // A small range of times makes equal times common
+    private static final int MAX_TIME = 500;
+
+    @Test
+    void matchesSortedListOverRandomOperations() {
+        Random random = new Random(42);
+        LeaderboardIndex index = new LeaderboardIndex(ORDER);
+        List<LeaderboardManager.RunEntry> reference = new ArrayList<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            // Insert twice as often as removing, so the index grows over the run
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                LeaderboardManager.RunEntry entry = entry("run-" + i, random.nextInt(MAX_TIME));
+                index.insert(entry);
+                reference.add(entry);
+                reference.sort(ORDER);
+            } else {
+                LeaderboardManager.RunEntry entry = reference.remove(random.nextInt(reference.size()));
+                index.remove(entry);
+            }
+
+            assertEquals(reference.size(), index.size(), "size after operation " + i);
+            int rank = random.nextInt(reference.size() + 1);
+            if (rank < reference.size()) {
+                assertSame(reference.get(rank), index.get(rank), "entry at rank " + rank);
+                assertEquals(rank, index.rank(reference.get(rank)), "rank of entry at rank " + rank);
+            } else {
+                assertNull(index.get(rank), "entry past the end");
+            }
+        }
+        assertEquals(reference, index.toList());
+    }
+
+    @Test
+    void ranksEntriesNotInTheIndexWhereTheyWouldBeInserted() {
+        Random random = new Random(7);
+        LeaderboardIndex index = new LeaderboardIndex(ORDER);
+        List<LeaderboardManager.RunEntry> reference = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            LeaderboardManager.RunEntry entry = entry("run-" + i, random.nextInt(MAX_TIME));
+            index.insert(entry);
+            reference.add(entry);
+        }
+        reference.sort(ORDER);
+
+        for (int i = 0; i < 1_000; i++) {
+            LeaderboardManager.RunEntry absent = entry("absent-" + i, random.nextInt(MAX_TIME + 2) - 1);
+            long before = reference.stream().filter(entry -> ORDER.compare(entry, absent) < 0).count();
+            assertEquals(before, index.rank(absent), "rank of " + absent.playerName);
+        }
+    }
+
+    @Test
+    void ignoresRemovalOfEntriesNotInTheIndex() {
+        LeaderboardIndex index = new LeaderboardIndex(ORDER);
+        LeaderboardManager.RunEntry entry = entry("run", 100);
+        index.insert(entry);
+
+        index.remove(entry("other", 100));
+        assertEquals(List.of(entry), index.toList());
+
+        index.remove(entry);
+        index.remove(entry);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.toList());
+    }
+
+    private static LeaderboardManager.RunEntry entry(String name, long time) {
+        return new LeaderboardManager.RunEntry(name, UUID.nameUUIDFromBytes(name.getBytes()), time, null);
+    }
+}
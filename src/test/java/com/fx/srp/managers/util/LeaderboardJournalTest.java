@@ -0,0 +1,144 @@
+package com.fx.srp.managers.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks how the {@link LeaderboardJournal} reads the leaderboard file and the journal on startup: torn last lines
+ * are dropped, journal lines read before are skipped, and the leaderboard file is only rewritten once it has to be.
+ */
+class LeaderboardJournalTest {
+
+    private static final Comparator<LeaderboardManager.RunEntry> ORDER =
+            Comparator.<LeaderboardManager.RunEntry>comparingLong(e -> e.time).thenComparing(e -> e.playerName);
+
+    private static final String ALICE = line("alice", 1000);
+    private static final String BOB = line("bob", 2000);
+    private static final String CAROL = line("carol", 3000);
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void setUpServer() {
+        // The journal logs through the server's logger
+        TestServer.install();
+    }
+
+    @Test
+    void dropsTornLastLineOfTheJournal() throws IOException {
+        write(snapshotFile(), ALICE + "\n");
+        write(journalFile(), BOB + "\n" + CAROL.substring(0, CAROL.length() - 2));
+
+        assertEquals(List.of(ALICE, BOB), journal().read());
+        assertEquals(BOB + "\n", read(journalFile()));
+    }
+
+    @Test
+    void dropsJournalWithoutCompleteLines() throws IOException {
+        write(snapshotFile(), ALICE + "\n" + BOB + "\n");
+        write(journalFile(), "car");
+
+        assertEquals(List.of(ALICE, BOB), journal().read());
+        assertEquals("", read(journalFile()));
+    }
+
+    @Test
+    void skipsReplayedRunsAlreadyRead() throws IOException {
+        // Left behind by a crash between replacing the leaderboard file and truncating the journal, then retried
+        write(snapshotFile(), ALICE + "\n" + BOB + "\n");
+        write(journalFile(), BOB + "\n" + CAROL + "\n" + CAROL + "\n");
+
+        assertEquals(List.of(ALICE, BOB, CAROL), journal().read());
+    }
+
+    @Test
+    void keepsEqualRunsOfTheLeaderboardFile() throws IOException {
+        write(snapshotFile(), ALICE + "\n" + ALICE + "\n");
+
+        assertEquals(List.of(ALICE, ALICE), journal().read());
+    }
+
+    @Test
+    void leavesLeaderboardFileWithoutJournalUntouched() throws IOException {
+        String content = BOB + "\n" + ALICE + "\n" + "not a run\n";
+        write(snapshotFile(), content);
+
+        LeaderboardJournal journal = journal();
+        journal.read();
+        journal.start(List.of(entry("alice", 1000), entry("bob", 2000)));
+        journal.shutdown();
+
+        assertEquals(content, read(snapshotFile()));
+    }
+
+    @Test
+    void compactsReplayedAndAppendedRunsInOrder() throws IOException {
+        write(snapshotFile(), BOB + "\n");
+        write(journalFile(), CAROL + "\n");
+
+        List<LeaderboardSnapshot> snapshots = new ArrayList<>();
+        LeaderboardJournal journal = new LeaderboardJournal(
+                snapshotFile(), journalFile(), ORDER, LeaderboardJournalTest::format, snapshots::add);
+        assertEquals(List.of(BOB, CAROL), journal.read());
+        journal.start(List.of(entry("bob", 2000), entry("carol", 3000)));
+        journal.append(entry("alice", 1000));
+        journal.shutdown();
+
+        assertEquals(ALICE + System.lineSeparator() + BOB + System.lineSeparator() + CAROL + System.lineSeparator(),
+                read(snapshotFile()));
+        assertEquals("", read(journalFile()));
+        assertEquals(3, snapshots.get(snapshots.size() - 1).size());
+    }
+
+    /* ==========================================================
+     *                      Helpers
+     * ========================================================== */
+    private LeaderboardJournal journal() {
+        return new LeaderboardJournal(snapshotFile(), journalFile(), ORDER, LeaderboardJournalTest::format, s -> { });
+    }
+
+    private Path snapshotFile() {
+        return directory.resolve("leaderboard.yml");
+    }
+
+    private Path journalFile() {
+        return directory.resolve("leaderboard.journal");
+    }
+
+    private static LeaderboardManager.RunEntry entry(String name, long time) {
+        return new LeaderboardManager.RunEntry(name, uuid(name), time, null);
+    }
+
+    private static String line(String name, long time) {
+        return name + "," + uuid(name) + "," + time;
+    }
+
+    private static String format(LeaderboardManager.RunEntry entry) {
+        return line(entry.playerName, entry.time);
+    }
+
+    private static UUID uuid(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
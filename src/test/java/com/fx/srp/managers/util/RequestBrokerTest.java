@@ -0,0 +1,70 @@
+package com.fx.srp.managers.util;
+
+import com.fx.srp.commands.GameMode;
+import com.fx.srp.model.requests.PendingRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks that the {@link RequestBroker}, shared by the multiplayer game modes, only accepts and declines a request
+ * for the game mode it was sent for, leaving it pending otherwise.
+ */
+class RequestBrokerTest {
+
+    private static final long TIMEOUT = 60_000L;
+
+    private final UUID sender = UUID.randomUUID();
+    private final UUID target = UUID.randomUUID();
+
+    @BeforeAll
+    static void setUpServer() {
+        // Opening a request starts the expiry timer on the server's scheduler
+        TestServer.install();
+    }
+
+    @Test
+    void leavesRequestOfAnotherGameModePending() {
+        RequestBroker broker = new RequestBroker(null);
+        PendingRequest invite = new PendingRequest(sender, target, GameMode.COOP);
+        broker.open(invite, TIMEOUT, () -> { });
+
+        assertNull(broker.accept(target, GameMode.BATTLE));
+        assertNull(broker.decline(target, GameMode.BATTLE));
+        assertNull(broker.getRequestTo(target, GameMode.BATTLE));
+
+        assertSame(invite, broker.getRequestTo(target));
+        assertEquals(1, broker.getPending());
+        assertEquals(0, broker.getAccepted().get());
+        assertEquals(0, broker.getDeclined().get());
+    }
+
+    @Test
+    void acceptsRequestOfItsGameMode() {
+        RequestBroker broker = new RequestBroker(null);
+        PendingRequest duel = new PendingRequest(sender, target, GameMode.COOP, false, true);
+        broker.open(duel, TIMEOUT, () -> { });
+
+        assertSame(duel, broker.accept(target, GameMode.COOP));
+        assertNull(broker.getRequestTo(target));
+        assertEquals(0, broker.getPending());
+        assertEquals(1, broker.getAccepted().get());
+    }
+
+    @Test
+    void declinesRequestOfItsGameMode() {
+        RequestBroker broker = new RequestBroker(null);
+        PendingRequest request = new PendingRequest(sender, target, GameMode.BATTLE);
+        broker.open(request, TIMEOUT, () -> { });
+
+        assertNull(broker.decline(target, GameMode.COOP));
+        assertSame(request, broker.decline(target, GameMode.BATTLE));
+        assertEquals(0, broker.getPending());
+        assertEquals(1, broker.getDeclined().get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.fx.srp.managers.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+/**
+ * Installs a stub {@link Server} for tests of classes logging through the server or scheduling tasks on it.
+ *
+ * <p>The server logs to a plain {@link Logger}, every other call does nothing: it returns a stub of any returned
+ * interface, e.g. the scheduler and its tasks, and the default value of anything else. The server can only be set
+ * once, so every test shares it.</p>
+ */
+final class TestServer {
+
+    private static final Logger LOGGER = Logger.getLogger(TestServer.class.getName());
+
+    private TestServer() {
+    }
+
+    static void install() {
+        if (Bukkit.getServer() != null) return;
+        Bukkit.setServer(stub(Server.class));
+    }
+
+    private static <T> T stub(Class<T> type) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (method.getName().equals("getLogger")) return LOGGER;
+            if (method.getName().equals("equals")) return proxy == args[0];
+            if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+            if (returnType == String.class) return "test";
+            if (returnType == boolean.class) return false;
+            if (returnType == int.class) return 0;
+            if (returnType == long.class) return 0L;
+            if (returnType.isInterface()) return stub(returnType);
+            return null;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,111 @@
+package com.fx.srp.util.time;
+
+import java.util.function.Function;
+
+/**
+ * The {@link TimeFormatter} as it was before it formatted into a char buffer, built on {@code String.format} and
+ * chained {@code String.replace} calls.
+ * <p>
+ * Kept as the reference the current implementation is checked and benchmarked against. Only formats raw
+ * millisecond values, for which it behaves exactly like the original.
+ * </p>
+ */
+public class LegacyTimeFormatter {
+
+    private final long milliseconds;
+    private boolean superscriptMs;
+    private boolean useSuffixes;
+    private boolean includeHours;
+
+    private static final String TWO_DECIMALS_FORMAT = "%02d";
+
+    /**
+     * Constructs a {@code LegacyTimeFormatter} from a raw millisecond value.
+     *
+     * @param milliseconds the time in milliseconds
+     */
+    public LegacyTimeFormatter(long milliseconds) {
+        this.milliseconds = milliseconds;
+    }
+
+    /**
+     * Formats the milliseconds as superscript if applicable.
+     *
+     * @return this {@code LegacyTimeFormatter} instance for chaining
+     */
+    public LegacyTimeFormatter withSuperscriptMs() {
+        this.superscriptMs = true;
+        return this;
+    }
+
+    /**
+     * Uses time unit suffixes such as {@code "min"}, {@code "sec"}, {@code "ms"}.
+     *
+     * @return this {@code LegacyTimeFormatter} instance for chaining
+     */
+    public LegacyTimeFormatter withSuffixes() {
+        this.useSuffixes = true;
+        return this;
+    }
+
+    /**
+     * Includes hours in the formatted output if the value is greater than zero.
+     *
+     * @return this {@code LegacyTimeFormatter} instance for chaining
+     */
+    public LegacyTimeFormatter withHours() {
+        if (TimeUtil.getHours(milliseconds) > 0) {
+            this.includeHours = true;
+        }
+        return this;
+    }
+
+    /**
+     * Builds the formatted time string based on the configuration of this formatter.
+     *
+     * @return the formatted time as a {@code String}
+     */
+    public String format() {
+        long milliseconds = getValue(TimeUtil::getMilliseconds);
+        long seconds = getValue(TimeUtil::getSeconds);
+        long minutes = getValue(TimeUtil::getMinutes);
+        long hours = getValue(TimeUtil::getHours);
+
+        final String millisecondsFormatted = useSuffixes
+                ? (milliseconds + "ms")
+                : superscriptMs
+                ? formatSuperscriptedMs(milliseconds)
+                : "." + milliseconds;
+
+        return (includeHours && hours > 0 ? formatComponent(hours, useSuffixes ? "h " : ":") : "") +
+                // Minutes
+                formatComponent(minutes, useSuffixes ? "min " : ":") +
+                // Seconds
+                formatComponent(seconds, useSuffixes ? "sec " : "") +
+                // Milliseconds
+                millisecondsFormatted;
+    }
+
+    @SuppressWarnings("all")
+    private String formatSuperscriptedMs(long milliseconds) {
+        return String.format(TWO_DECIMALS_FORMAT, milliseconds)
+                .replace("0", "\u2070")
+                .replace("1", "\u00B9")
+                .replace("2", "\u00B2")
+                .replace("3", "\u00B3")
+                .replace("4", "\u2074")
+                .replace("5", "\u2075")
+                .replace("6", "\u2076")
+                .replace("7", "\u2077")
+                .replace("8", "\u2078")
+                .replace("9", "\u2079");
+    }
+
+    private long getValue(Function<Long, Long> extractor) {
+        return extractor.apply(milliseconds);
+    }
+
+    private String formatComponent(long value, String suffixOrSeparator) {
+        return String.format(TWO_DECIMALS_FORMAT, value) + suffixOrSeparator;
+    }
+}
@@ -0,0 +1,109 @@
+package com.fx.srp.util.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks how the {@link RunClock} accounts for pauses and removes the time the server stalled while it was running,
+ * driven by a fake time source and its own {@link TickStallMonitor}.
+ */
+class RunClockTest {
+
+    private long now = TimeUnit.SECONDS.toNanos(1);
+    private final TickStallMonitor monitor = new TickStallMonitor();
+    private final RunClock clock = new RunClock(monitor, () -> now);
+
+    RunClockTest() {
+        monitor.tick(now);
+    }
+
+    @Test
+    void excludesPausedTime() {
+        clock.start();
+        advance(50, 50);
+        clock.pause();
+        advance(50, 50, 50);
+        assertTrue(clock.isPaused());
+        assertEquals(100, clock.getTime());
+
+        clock.resume();
+        advance(50);
+        clock.stop();
+        advance(50);
+
+        assertFalse(clock.isRunning());
+        assertEquals(150, clock.getTime());
+    }
+
+    @Test
+    void ignoresPauseAndResumeOutOfOrder() {
+        clock.resume();
+        clock.pause();
+        assertFalse(clock.isPaused());
+
+        clock.start();
+        advance(50);
+        clock.pause();
+        clock.pause();
+        advance(50);
+        clock.resume();
+        clock.resume();
+        advance(50);
+
+        assertEquals(100, clock.getTime());
+    }
+
+    @Test
+    void removesStallsWhileRunning() {
+        advance(50);
+        clock.start();
+        advance(50, 250, 50);
+
+        assertEquals(350, clock.getTime());
+        assertEquals(150, clock.getLoadRemovedTime());
+        assertEquals(1, clock.getStalls());
+    }
+
+    @Test
+    void keepsStallsOfPausesOut() {
+        advance(50);
+        clock.start();
+        advance(50, 150);
+        clock.pause();
+        advance(50, 350);
+        clock.resume();
+        advance(50);
+        clock.stop();
+        advance(450);
+
+        assertEquals(250, clock.getTime());
+        assertEquals(150, clock.getLoadRemovedTime());
+        assertEquals(1, clock.getStalls());
+    }
+
+    @Test
+    void clearsTimeOnReset() {
+        advance(50);
+        clock.start();
+        advance(150);
+        clock.stop();
+        clock.reset();
+
+        assertEquals(0, clock.getTime());
+        assertEquals(0, clock.getLoadRemovedTime());
+        assertEquals(0, clock.getStalls());
+    }
+
+    // Runs ticks the given number of milliseconds apart
+    private void advance(long... intervals) {
+        for (long interval : intervals) {
+            now += TimeUnit.MILLISECONDS.toNanos(interval);
+            monitor.tick(now);
+        }
+    }
+}
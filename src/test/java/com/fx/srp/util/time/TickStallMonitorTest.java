@@ -0,0 +1,58 @@
+package com.fx.srp.util.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the {@link TickStallMonitor} only counts the time the server fell behind and did not catch up on as
+ * stalled, so jitter and late ticks followed by early ones do not shorten load-removed times.
+ */
+class TickStallMonitorTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void countsNoStallForJitterAndCatchUp() {
+        TickStallMonitor monitor = new TickStallMonitor();
+        // Jitter around 50 ms, then a late tick the server catches up on over the following ticks
+        long end = ticks(monitor, 49, 51, 48, 52, 50, 120, 30, 30, 30, 40);
+
+        assertEquals(0, monitor.getStalledNanos());
+        assertEquals(millis(10 * 50), end);
+    }
+
+    @Test
+    void countsStallNotCaughtUpOn() {
+        TickStallMonitor monitor = new TickStallMonitor();
+        ticks(monitor, 50, 200, 50, 50, 30, 50);
+
+        assertEquals(millis(130), monitor.getStalledNanos());
+        assertEquals(150d, monitor.getMaxStallMillis());
+    }
+
+    @Test
+    void creditsEarlyTicksWithoutStallOnlyAsJitter() {
+        TickStallMonitor monitor = new TickStallMonitor();
+        ticks(monitor, 30, 30, 90);
+
+        assertEquals(millis(35), monitor.getStalledNanos());
+    }
+
+    // Runs ticks the given number of milliseconds apart, returning the time since the first tick
+    private static long ticks(TickStallMonitor monitor, long... intervals) {
+        long now = START;
+        monitor.tick(now);
+        for (long interval : intervals) {
+            now += millis(interval);
+            monitor.tick(now);
+        }
+        return now - START;
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
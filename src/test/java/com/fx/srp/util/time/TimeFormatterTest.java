@@ -0,0 +1,98 @@
+package com.fx.srp.util.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the {@link TimeFormatter} produces exactly the output of the {@link LegacyTimeFormatter} it replaced,
+ * for every combination of options.
+ */
+class TimeFormatterTest {
+
+    // A step coprime to 1000 reaches every millisecond component on the way
+    private static final long SWEEP_END = 2 * 60 * 60 * 1000L;
+    private static final long SWEEP_STEP = 101L;
+
+    private static final long[] EDGE_CASES = {
+            0L, 1L, 9L, 10L, 99L, 100L, 999L, 1000L, 59_999L, 60_000L, 3_599_999L, 3_600_000L, 3_600_001L,
+            36_000_000L, 359_999_999L, 360_000_000L, 86_400_000L, Integer.MAX_VALUE, Long.MAX_VALUE,
+            -1L, -10L, -999L, -1000L, -61_000L, -3_600_000L, Long.MIN_VALUE
+    };
+
+    @Test
+    void matchesLegacyFormatterOnEdgeCases() {
+        for (long time : EDGE_CASES) {
+            assertEquivalent(time);
+        }
+    }
+
+    @Test
+    void matchesLegacyFormatterOverTwoHours() {
+        for (long time = 0; time < SWEEP_END; time += SWEEP_STEP) {
+            assertEquivalent(time);
+        }
+    }
+
+    @Test
+    void matchesLegacyFormatterWhenReused() {
+        TimeFormatter formatter = new TimeFormatter(0L).withHours().withSuperscriptMs();
+        for (long time : EDGE_CASES) {
+            // The legacy formatter only includes hours if the value it was constructed with has any
+            if (time < 0 || TimeUtil.getHours(time) == 0) continue;
+            assertEquals(new LegacyTimeFormatter(time).withHours().withSuperscriptMs().format(),
+                    formatter.format(time), "time " + time);
+        }
+    }
+
+    /* ==========================================================
+     *                      Helpers
+     * ========================================================== */
+    private static void assertEquivalent(long time) {
+        for (Options options : Options.all()) {
+            String expected = options.legacy.apply(new LegacyTimeFormatter(time)).format();
+            String actual = options.current.apply(new TimeFormatter(time)).format();
+            assertEquals(expected, actual, "time " + time + " with " + options.name);
+        }
+    }
+
+    private static final class Options {
+        private final String name;
+        private final UnaryOperator<LegacyTimeFormatter> legacy;
+        private final UnaryOperator<TimeFormatter> current;
+
+        private Options(String name, UnaryOperator<LegacyTimeFormatter> legacy, UnaryOperator<TimeFormatter> current) {
+            this.name = name;
+            this.legacy = legacy;
+            this.current = current;
+        }
+
+        private static List<Options> all() {
+            List<Options> all = new ArrayList<>();
+            for (int mask = 0; mask < 8; mask++) {
+                boolean hours = (mask & 1) != 0;
+                boolean suffixes = (mask & 2) != 0;
+                boolean superscript = (mask & 4) != 0;
+                all.add(new Options(
+                        "hours=" + hours + ", suffixes=" + suffixes + ", superscript=" + superscript,
+                        formatter -> {
+                            if (hours) formatter.withHours();
+                            if (suffixes) formatter.withSuffixes();
+                            if (superscript) formatter.withSuperscriptMs();
+                            return formatter;
+                        },
+                        formatter -> {
+                            if (hours) formatter.withHours();
+                            if (suffixes) formatter.withSuffixes();
+                            if (superscript) formatter.withSuperscriptMs();
+                            return formatter;
+                        }));
+            }
+            return all;
+        }
+    }
+}